@@ -0,0 +1,60 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.manualMapper.CarPartMapper;
+import com.example.demo.model.CarPart;
+import com.example.demo.model.Supplier;
+import com.example.demo.utils.CarPartMapperM;
+import com.example.demo.utils.CarPartMapperMImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct-generated {@link CarPartMapperM} against the hand-written {@link CarPartMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CarPartMappingBenchmark {
+
+    private CarPartMapperM mapStructMapper;
+    private CarPartMapper manualMapper;
+    private CarPart carPart;
+
+    @Setup
+    public void setUp() {
+        mapStructMapper = new CarPartMapperMImpl();
+        manualMapper = new CarPartMapper();
+        carPart = CarPart.builder()
+                .id(1L)
+                .name("Brake Pads")
+                .price(49.99)
+                .stock(12)
+                .supplier(Supplier.builder().id(1L).name("AutoMaster Ltd.").build())
+                .build();
+    }
+
+    @Benchmark
+    public CarPartDto mapStructWithSupplier() {
+        return mapStructMapper.modelToDtoWithSupplier(carPart);
+    }
+
+    @Benchmark
+    public CarPartDto manualWithSupplier() {
+        return manualMapper.modelToDtoWithSupplier(carPart);
+    }
+
+    @Benchmark
+    public CarPartDto mapStructWithoutSupplier() {
+        return mapStructMapper.modelToDtoWithoutSupplier(carPart);
+    }
+
+    @Benchmark
+    public CarPartDto manualWithoutSupplier() {
+        return manualMapper.modelToDtoWithoutSupplier(carPart);
+    }
+}
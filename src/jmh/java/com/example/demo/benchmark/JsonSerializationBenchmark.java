@@ -0,0 +1,73 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.AppConfig;
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.dto.OrderItemDto;
+import com.example.demo.dto.OrderResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization with the application's {@link ObjectMapper} from {@link AppConfig}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<CarPartDto> carParts;
+    private OrderResponse order;
+
+    @Setup
+    public void setUp() {
+        objectMapper = ReflectionTestUtils.invokeMethod(new AppConfig(), "objectMapper");
+        carParts = new ArrayList<>(size);
+        List<OrderItemDto> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            carParts.add(CarPartDto.builder()
+                    .id((long) i)
+                    .name("Part " + i)
+                    .price(10.0 + i % 100)
+                    .stock(i % 50)
+                    .supplierName("AutoMaster Ltd.")
+                    .build());
+            items.add(OrderItemDto.builder()
+                    .carPartId((long) i)
+                    .carPartName("Part " + i)
+                    .quantity(1 + i % 5)
+                    .price(10.0 + i % 100)
+                    .build());
+        }
+        order = OrderResponse.builder()
+                .id(1L)
+                .items(items)
+                .total(12345.67)
+                .date(LocalDate.of(2025, 5, 1))
+                .userFullName("Bob Brown")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeCarParts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(carParts);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.JwtKeyRing;
+import com.example.demo.security.JwtKeyRotation;
+import com.example.demo.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and the parsing done by JwtRequestFilter for every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        StaticListableBeanFactory noBeans = new StaticListableBeanFactory();
+        jwtUtil = new JwtUtil(noBeans.getBeanProvider(JwtKeyRing.class), noBeans.getBeanProvider(JwtKeyRotation.class));
+        ReflectionTestUtils.setField(jwtUtil, "secret",
+                "JYs/fIFuiIFk06HzSZBhmizGTT5pV1e44CMRDjm8Ffv+XSGc7r3AyASZ3vOuJ0iLa+dyw6Af1EmfrTZi1Mpuew==");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600L);
+        userDetails = User.withUsername("bob")
+                .password("unused")
+                .authorities(List.of(new SimpleGrantedAuthority("USER")))
+                .build();
+        token = jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+
+    /**
+     * Everything the request filter does with a token: subject, validation and roles.
+     */
+    @Benchmark
+    public Object authenticateRequest() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return jwtUtil.validateToken(claims, userDetails) ? jwtUtil.extractRoles(claims) : claims.getSubject();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.JwtKeyRing;
+import com.example.demo.security.JwtKeyRotation;
+import com.example.demo.security.JwtSigningKey;
+import com.example.demo.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing and verification cost per algorithm. HS256 uses the shared secret, the others a
+ * {@link JwtKeyRing} with a single key as the application does between rotations.
+ * Run with {@code mvn -Pjmh -DskipTests verify -Djmh.includes=JwtSigningBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({"HS256", JwtSigningKey.RS256, JwtSigningKey.ES256, JwtSigningKey.EDDSA})
+    public String algorithm;
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        if (!"HS256".equals(algorithm)) {
+            JwtKeyRing keyRing = new JwtKeyRing();
+            JwtSigningKey key = JwtSigningKey.generate(algorithm, Instant.now());
+            keyRing.replace(key, List.of(key));
+            beans.addBean("jwtKeyRing", keyRing);
+        }
+        jwtUtil = new JwtUtil(beans.getBeanProvider(JwtKeyRing.class), beans.getBeanProvider(JwtKeyRotation.class));
+        ReflectionTestUtils.setField(jwtUtil, "secret",
+                "JYs/fIFuiIFk06HzSZBhmizGTT5pV1e44CMRDjm8Ffv+XSGc7r3AyASZ3vOuJ0iLa+dyw6Af1EmfrTZi1Mpuew==");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600L);
+        userDetails = User.withUsername("bob")
+                .password("unused")
+                .authorities(List.of(new SimpleGrantedAuthority("USER")))
+                .build();
+        token = jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String verify() {
+        return jwtUtil.extractUsername(token);
+    }
+}
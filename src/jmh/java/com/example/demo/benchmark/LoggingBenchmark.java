@@ -0,0 +1,137 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.dto.SupplierDto;
+import com.example.demo.utils.LogRateLimitFilter;
+import com.example.demo.utils.LogSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost on request threads for the console pipeline variants of logback-spring.xml,
+ * writing to a file so appender I/O is real: synchronous, async ring buffer, and async with
+ * the prod per-logger rate limit. Runs with several threads to show contention on the appender.
+ *
+ * The DTO benchmarks log a supplier with its part list at DEBUG, once with the Lombok toString
+ * and once through {@link LogSummary}; async appenders still format the message on the caller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %t --- %logger{39} : %m%n";
+
+    @Param({"sync", "async", "async-rate-limited"})
+    public String pipeline;
+
+    private LoggerContext context;
+    private File logFile;
+    private Logger requestLogger;
+    private Logger dtoLogger;
+    private SupplierDto supplier;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = File.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.getAbsolutePath());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (!pipeline.equals("sync")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+        if (pipeline.equals("async-rate-limited")) {
+            LogRateLimitFilter rateLimit = new LogRateLimitFilter();
+            rateLimit.setContext(context);
+            rateLimit.setMaxEventsPerSecond(100);
+            rateLimit.setSampleRate(0.01);
+            rateLimit.start();
+            context.addTurboFilter(rateLimit);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        requestLogger = context.getLogger("com.example.demo.controller.CarPartController");
+        dtoLogger = context.getLogger("com.example.demo.service.SupplierService");
+        dtoLogger.setLevel(Level.DEBUG);
+
+        List<CarPartDto> parts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            parts.add(CarPartDto.builder()
+                    .id((long) i)
+                    .name("Part " + i)
+                    .price(10.0 + i)
+                    .stock(i)
+                    .supplierName("AutoMaster Ltd.")
+                    .build());
+        }
+        supplier = SupplierDto.builder()
+                .id(1L)
+                .name("AutoMaster Ltd.")
+                .email("contact@automaster.example.com")
+                .carParts(parts)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+        logFile.delete();
+    }
+
+    @Benchmark
+    public void infoPerRequest() {
+        requestLogger.info("GET /api/carPart - Fetching all car parts");
+        requestLogger.info("Found {} car parts", 200);
+    }
+
+    @Benchmark
+    public void debugDisabled() {
+        requestLogger.debug("Found supplier: {}", supplier);
+    }
+
+    @Benchmark
+    public void debugDtoToString() {
+        dtoLogger.debug("Found supplier: {}", supplier);
+    }
+
+    @Benchmark
+    public void debugDtoSummary() {
+        dtoLogger.debug("Found supplier: {}", LogSummary.of(supplier));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.CarPart;
+import com.example.demo.model.Order;
+import com.example.demo.model.OrderItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderTotalBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = Order.builder().build();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.builder()
+                    .carPart(CarPart.builder().id((long) i).name("Part " + i).price(9.99 + i).stock(100).build())
+                    .quantity(1 + i % 5)
+                    .order(order)
+                    .build());
+        }
+        order.setItems(items);
+    }
+
+    @Benchmark
+    public Double calculateTotal() {
+        order.calculateTotal();
+        return order.getTotal();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.SupplierDto;
+import com.example.demo.model.CarPart;
+import com.example.demo.model.Supplier;
+import com.example.demo.utils.CarPartMapperMImpl;
+import com.example.demo.utils.SupplierMapperM;
+import com.example.demo.utils.SupplierMapperMImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SupplierMapperM} with growing part lists: full mapping with parts against the summary
+ * mapping used by the supplier list endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SupplierMappingBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int partCount;
+
+    private SupplierMapperM mapper;
+    private Supplier supplier;
+
+    @Setup
+    public void setUp() {
+        mapper = new SupplierMapperMImpl();
+        ReflectionTestUtils.setField(mapper, "carPartMapperM", new CarPartMapperMImpl());
+        supplier = Supplier.builder()
+                .id(1L)
+                .name("AutoMaster Ltd.")
+                .email("contact@automaster.com")
+                .build();
+        List<CarPart> parts = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            parts.add(CarPart.builder()
+                    .id((long) i)
+                    .name("Part " + i)
+                    .price(10.0 + i % 100)
+                    .stock(i % 50)
+                    .supplier(supplier)
+                    .build());
+        }
+        supplier.setCarParts(parts);
+    }
+
+    @Benchmark
+    public SupplierDto modelToDto() {
+        return mapper.modelToDto(supplier);
+    }
+
+    @Benchmark
+    public SupplierDto modelToSummaryDto() {
+        return mapper.modelToSummaryDto(supplier);
+    }
+}
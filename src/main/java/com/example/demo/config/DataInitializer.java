@@ -10,9 +10,10 @@ import com.example.demo.repository.UserRepository;
 import com.example.demo.service.JsonService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -25,11 +26,14 @@ import java.util.List;
  *
  * This initializer uses JsonService to read data from JSON files located in the resources directory
  * and automatically encrypts user passwords before saving to the database.
- * The initialization happens once when the application starts.
+ * The initialization is started by {@link DataSeeding} once the application has started, and
+ * runs in a single transaction so the inserts are sent as JDBC batches. A database that already
+ * has users (the persistent profile) is left untouched.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
 
     private final UserRepository userRepository;
     private final CarPartRepository carPartsRepository;
@@ -38,7 +42,7 @@ public class DataInitializer implements CommandLineRunner {
     private final JsonService jsonService;
 
     /**
-     * Executes the data initialization process when the application starts.
+     * Seeds the database with the sample data, unless it already contains users.
      * This method performs the following operations in sequence:
      * 1. Loads users from users.json, encrypts their passwords, and saves them to the database
      * 2. Loads suppliers from suppliers.json and saves them to the database
@@ -46,11 +50,13 @@ public class DataInitializer implements CommandLineRunner {
      *
      * The data is loaded using JsonService which handles JSON file reading and object mapping.
      * User passwords are encrypted using the configured PasswordEncoder before saving.
-     *
-     * @throws Exception if there are any issues reading the JSON files or saving to the database
      */
-    @Override
-    public void run(String... args) throws Exception {
+    @Transactional
+    public void seed() {
+        if (userRepository.count() > 0) {
+            log.info("Database already contains data, skipping sample data initialization");
+            return;
+        }
 
         var users = jsonService
                 .getData("users.json", new TypeReference<List<User>>() {});
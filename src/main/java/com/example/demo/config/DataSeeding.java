@@ -0,0 +1,77 @@
+package com.example.demo.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link DataInitializer} once the context has started and reports its progress as the
+ * "dataSeeding" health component, which is part of the readiness group.
+ *
+ * With app.seeding.background=true (the default) seeding, including BCrypt hashing, runs on its
+ * own thread so it is off the startup critical path: the application is live right away but only
+ * reports ready once the data and the in-memory indexes are in place. With false it runs before
+ * the application reports started, as before.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataSeeding implements HealthIndicator {
+
+    enum State { PENDING, RUNNING, COMPLETED, FAILED }
+
+    private final DataInitializer dataInitializer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.seeding.background:true}")
+    private boolean background;
+
+    private volatile State state = State.PENDING;
+    private volatile Throwable failure;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        state = State.RUNNING;
+        if (background) {
+            Thread thread = new Thread(this::seed, "data-seeding");
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            seed();
+        }
+    }
+
+    @Override
+    public Health health() {
+        return switch (state) {
+            case COMPLETED -> Health.up().build();
+            case FAILED -> Health.down(new IllegalStateException("Data seeding failed", failure)).build();
+            default -> Health.outOfService().withDetail("state", state).build();
+        };
+    }
+
+    public boolean isCompleted() {
+        return state == State.COMPLETED;
+    }
+
+    private void seed() {
+        long start = System.nanoTime();
+        try {
+            dataInitializer.seed();
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            eventPublisher.publishEvent(new SampleDataReadyEvent(durationMs));
+            state = State.COMPLETED;
+            log.info("Data seeding and index rebuilds completed in {} ms", durationMs);
+        } catch (Exception e) {
+            failure = e;
+            state = State.FAILED;
+            log.error("Data seeding failed", e);
+        }
+    }
+}
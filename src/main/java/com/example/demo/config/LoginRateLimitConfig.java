@@ -0,0 +1,39 @@
+package com.example.demo.config;
+
+import com.example.demo.security.LoginRateLimitFilter;
+import com.example.demo.utils.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rate limits for /api/login and /api/register (app.rate-limit.enabled, on by default).
+ *
+ * The filter is ordered before the security filter chain so throttled requests never reach
+ * authentication.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class LoginRateLimitConfig {
+
+    @Bean
+    FilterRegistrationBean<LoginRateLimitFilter> loginRateLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${app.rate-limit.ip.burst:20}") int ipBurst,
+            @Value("${app.rate-limit.ip.per-minute:60}") double ipPerMinute,
+            @Value("${app.rate-limit.username.burst:5}") int usernameBurst,
+            @Value("${app.rate-limit.username.per-minute:10}") double usernamePerMinute,
+            @Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+        var filter = new LoginRateLimitFilter(
+                new RateLimiter(ipBurst, ipPerMinute, maxKeys),
+                new RateLimiter(usernameBurst, usernamePerMinute, maxKeys),
+                objectMapper);
+        var registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.config;
+
+/**
+ * Published by {@link DataSeeding} once the database content is final after startup, whether
+ * sample data was inserted or the database already had data. In-memory indexes built from the
+ * database are rebuilt on this event instead of on ApplicationReadyEvent, which may come first.
+ */
+public record SampleDataReadyEvent(long durationMs) {
+}
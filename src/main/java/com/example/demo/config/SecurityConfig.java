@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -20,6 +21,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -53,6 +55,7 @@ public class SecurityConfig {
      * - CSRF disabled for JWT-based authentication
      * - Role-based access control (ADMIN and USER roles)
      * - Stateless session management
+     * - 401 for requests without a valid token, so clients know to refresh it
      * - JWT authentication filter
      * - Frame options for H2 console access
      *
@@ -66,12 +69,16 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
-                    .requestMatchers("/api/login", "/api/register", "/error", "/h2-console/**").permitAll()
+                    .requestMatchers("/api/login", "/api/register", "/api/token/refresh", "/.well-known/jwks.json", "/error", "/h2-console/**").permitAll()
+                    .requestMatchers("/actuator/health/**").permitAll()
+                    .requestMatchers("/actuator/**").hasAuthority(Role.ADMIN.name())
                     .requestMatchers(HttpMethod.GET, "/api/carPart/**").hasAnyAuthority(Role.ADMIN.name(), Role.USER.name())
                     .requestMatchers(HttpMethod.POST, "/api/carPart/**").hasAuthority(Role.ADMIN.name())
                     .requestMatchers(HttpMethod.PUT, "/api/carPart/**").hasAuthority(Role.ADMIN.name())
+                    .requestMatchers(HttpMethod.PATCH, "/api/carPart/**").hasAuthority(Role.ADMIN.name())
                     .requestMatchers(HttpMethod.DELETE, "/api/carPart/**").hasAuthority(Role.ADMIN.name())
                     .requestMatchers("/api/suppliers/**").hasAuthority(Role.ADMIN.name())
+                    .requestMatchers("/api/admin/**").hasAuthority(Role.ADMIN.name())
                     .requestMatchers("/api/user/**").hasAnyAuthority(Role.USER.name(), Role.ADMIN.name())
                     .requestMatchers(HttpMethod.GET, "/api/orders/**").hasAnyAuthority(Role.ADMIN.name(), Role.USER.name())
                     .requestMatchers(HttpMethod.POST, "/api/orders/**").hasAuthority(Role.USER.name())
@@ -80,6 +87,9 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
             .authenticationProvider(authenticationProvider())
             .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class)
             .headers(headers -> headers
@@ -125,7 +135,7 @@ public class SecurityConfig {
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:4200"));
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,34 @@
+package com.example.demo.config;
+
+import com.example.demo.utils.RequestTimingQueryListener;
+import com.example.demo.utils.ServerTimingFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Opt-in per-request timing breakdown (app.server-timing.enabled=true).
+ *
+ * The filter runs before the security filter chain so authentication is part of the request,
+ * and the query listener attributes JDBC time and statement counts to it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.server-timing.enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    @Bean
+    FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${app.server-timing.log-threshold-ms:0}") long logThresholdMs) {
+        var registration = new FilterRegistrationBean<>(new ServerTimingFilter(logThresholdMs));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    RequestTimingQueryListener requestTimingQueryListener() {
+        return new RequestTimingQueryListener();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+
+/**
+ * Logs startup time and heap usage once the application is ready, so database profiles and
+ * startup changes can be compared from the logs.
+ */
+@Slf4j
+@Component
+public class StartupMetricsLogger {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logStartupMetrics(ApplicationReadyEvent event) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        log.info("Ready in {} ms (JVM uptime {} ms), heap used {} MB of {} MB committed",
+                event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1,
+                ManagementFactory.getRuntimeMXBean().getUptime(),
+                heap.getUsed() / (1024 * 1024), heap.getCommitted() / (1024 * 1024));
+    }
+}
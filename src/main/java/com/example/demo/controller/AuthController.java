@@ -2,11 +2,14 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.AuthRequestDto;
 import com.example.demo.dto.AuthResponseDto;
+import com.example.demo.dto.RefreshTokenRequestDto;
 import com.example.demo.dto.RegisterRequestDto;
 import com.example.demo.service.AuthService;
+import com.example.demo.service.RefreshTokenService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -24,6 +27,8 @@ import org.springframework.web.bind.annotation.*;
  * Available endpoints:
  * - POST /login - User authentication
  * - POST /register - New user registration
+ * - POST /token/refresh - Access token renewal with a refresh token
+ * - POST /logout - Revocation of the caller's tokens
  */
 @RestController
 @CrossOrigin(origins = "http://localhost:4200")
@@ -32,6 +37,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * Authenticates a user and generates a JWT token upon successful authentication.
@@ -40,7 +46,7 @@ public class AuthController {
      *
      * @param authRequest DTO containing username and password for authentication
      * @return ResponseEntity containing:
-     *         - 200 OK with JWT token on successful authentication
+     *         - 200 OK with JWT and refresh token on successful authentication
      *         - 400 Bad Request with error message on invalid credentials
      *         - 500 Internal Server Error on unexpected errors
      */
@@ -48,7 +54,8 @@ public class AuthController {
     public ResponseEntity<AuthResponseDto> createAuthenticationToken(@RequestBody AuthRequestDto authRequest) {
         String jwt = authService.authenticateAndGenerateToken(
                 authRequest.getUsername(), authRequest.getPassword());
-        return ResponseEntity.ok(new AuthResponseDto(jwt));
+        String refreshToken = refreshTokenService.issue(authRequest.getUsername());
+        return ResponseEntity.ok(new AuthResponseDto(jwt, refreshToken));
     }
     
     /**
@@ -65,14 +72,43 @@ public class AuthController {
      *
      * @param request DTO containing user registration details
      * @return ResponseEntity containing:
-     *         - 200 OK with JWT token on successful registration
+     *         - 200 OK with JWT and refresh token on successful registration
      *         - 400 Bad Request with validation errors
      *         - 500 Internal Server Error on unexpected errors
      */
     @PostMapping("/register")
     public ResponseEntity<AuthResponseDto> registerUser(@Valid @RequestBody RegisterRequestDto request) {
         String jwt = authService.registerAndGenerateToken(request);
-        return ResponseEntity.ok(new AuthResponseDto(jwt));
+        String refreshToken = refreshTokenService.issue(request.getUsername());
+        return ResponseEntity.ok(new AuthResponseDto(jwt, refreshToken));
+    }
+
+    /**
+     * Exchanges a refresh token for a new JWT and a new refresh token.
+     * No password check is involved; the presented refresh token is rotated and
+     * presenting it again revokes every token derived from the same login.
+     *
+     * @param request DTO containing the refresh token
+     * @return ResponseEntity containing:
+     *         - 200 OK with new JWT and refresh token
+     *         - 401 Unauthorized if the refresh token is unknown, expired or already used
+     */
+    @PostMapping("/token/refresh")
+    public ResponseEntity<AuthResponseDto> refreshToken(@Valid @RequestBody RefreshTokenRequestDto request) {
+        return ResponseEntity.ok(refreshTokenService.refresh(request.getRefreshToken()));
+    }
+
+    /**
+     * Logs the caller out: the JWT used for this request is revoked until it expires
+     * and all refresh tokens of the user are deleted.
+     *
+     * @param authentication Spring Security authentication object of the caller
+     * @return ResponseEntity with 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(Authentication authentication) {
+        authService.logout(authentication);
+        return ResponseEntity.noContent().build();
     }
 }
 
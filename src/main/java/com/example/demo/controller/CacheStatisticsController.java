@@ -0,0 +1,30 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.CacheRegionStatsDto;
+import com.example.demo.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ADMIN')")
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping
+    public ResponseEntity<List<CacheRegionStatsDto>> getRegionStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getRegionStatistics());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> evictAll() {
+        cacheStatisticsService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,13 +1,23 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CarPartBulkUpdateResultDto;
+import com.example.demo.dto.CarPartDeltaDto;
 import com.example.demo.dto.CarPartDto;
+import com.example.demo.dto.CarPartImportResultDto;
+import com.example.demo.service.CarPartImportService;
+import com.example.demo.service.CarPartSearchService;
 import com.example.demo.service.CarPartService;
+import com.example.demo.service.LowStockService;
+import com.example.demo.utils.LogSummary;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @Slf4j
@@ -17,6 +27,9 @@ import java.util.List;
 public class CarPartController {
 
     private final CarPartService carPartService;
+    private final CarPartSearchService carPartSearchService;
+    private final CarPartImportService carPartImportService;
+    private final LowStockService lowStockService;
 
     @GetMapping
     public ResponseEntity<List<CarPartDto>> getAllCarParts() {
@@ -26,30 +39,70 @@ public class CarPartController {
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<CarPartDto>> searchCarParts(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.debug("GET /api/carPart/search - Searching car parts for: {}", query);
+        return ResponseEntity.ok(carPartSearchService.search(query, limit));
+    }
+
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/low-stock")
+    public ResponseEntity<List<CarPartDto>> getLowStockParts(@RequestParam(defaultValue = "100") int limit) {
+        log.debug("GET /api/carPart/low-stock - Fetching parts at or below their reorder threshold");
+        return ResponseEntity.ok(lowStockService.getLowStockParts(limit));
+    }
+
     @PostMapping("/{supplierId}")
     public ResponseEntity<List<CarPartDto>> addCarPart(
             @PathVariable Long supplierId,
             @RequestBody CarPartDto dto
     ) {
         log.info("POST /api/carPart/{} - Adding new car part for supplier", supplierId);
-        log.debug("New car part details: {}", dto);
+        log.debug("New car part details: {}", LogSummary.of(dto));
         var result = carPartService.addCarPart(supplierId, dto);
         log.info("Successfully added new car part for supplier {}", supplierId);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Bulk upsert of a supplier's parts. The request body is streamed straight from the
+     * connection, either as CSV (name,price,stock header) or as a JSON array of parts.
+     */
+    @PostMapping(value = "/{supplierId}/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CarPartImportResultDto> importCarParts(
+            @PathVariable Long supplierId,
+            HttpServletRequest request
+    ) throws IOException {
+        log.info("POST /api/carPart/{}/import - Importing car parts for supplier", supplierId);
+        var result = carPartImportService.importCarParts(
+                supplierId, request.getInputStream(), MediaType.parseMediaType(request.getContentType()));
+        log.info("Imported {} rows for supplier {}, {} rejected", result.getProcessed(), supplierId, result.getRejected());
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CarPartDto> updateCarPart(
             @PathVariable Long id,
             @RequestBody CarPartDto dto
     ) {
         log.info("PUT /api/carPart/{} - Updating car part", id);
-        log.debug("Updated car part details: {}", dto);
+        log.debug("Updated car part details: {}", LogSummary.of(dto));
         var result = carPartService.updateCarPart(id, dto);
         log.info("Successfully updated car part with id {}", id);
         return ResponseEntity.ok(result);
     }
 
+    @PatchMapping
+    public ResponseEntity<CarPartBulkUpdateResultDto> bulkUpdateCarParts(@RequestBody List<CarPartDeltaDto> deltas) {
+        log.info("PATCH /api/carPart - Bulk updating {} car parts", deltas.size());
+        var result = carPartService.bulkUpdateCarParts(deltas);
+        log.info("Bulk updated {} car parts, {} missing", result.getUpdated(), result.getMissingIds().size());
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCarPart(@PathVariable Long id) {
         log.info("DELETE /api/carPart/{} - Deleting car part", id);
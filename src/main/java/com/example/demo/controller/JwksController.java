@@ -0,0 +1,34 @@
+package com.example.demo.controller;
+
+import com.example.demo.security.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Publishes the public JWT verification keys as a JWK Set so other services can validate tokens
+ * locally instead of calling this service or sharing the HMAC secret.
+ *
+ * The document is rendered when the key ring changes and may be cached by clients for
+ * {@value #MAX_AGE_MINUTES} minutes, which is shorter than the default key activation delay.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final long MAX_AGE_MINUTES = 5;
+
+    private final JwtKeyRing keyRing;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(MAX_AGE_MINUTES)).cachePublic())
+                .body(keyRing.jwks());
+    }
+}
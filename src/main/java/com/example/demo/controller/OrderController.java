@@ -2,6 +2,7 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.OrderDto;
 import com.example.demo.dto.OrderResponse;
+import com.example.demo.dto.UserOrderSummaryDto;
 import com.example.demo.model.Order;
 import com.example.demo.service.OrderService;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,11 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/summary")
+    public ResponseEntity<UserOrderSummaryDto> getOrderSummary(Authentication authentication) {
+        return ResponseEntity.ok(orderService.getOrderSummary(authentication.getName()));
+    }
+
     @PreAuthorize("hasAuthority('ADMIN')")
     @GetMapping("/all")
     public ResponseEntity<List<OrderResponse>> getAllOrders() {
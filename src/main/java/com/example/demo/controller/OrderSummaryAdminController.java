@@ -0,0 +1,25 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.OrderSummaryRebuildResultDto;
+import com.example.demo.service.UserOrderSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/order-summaries")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ADMIN')")
+public class OrderSummaryAdminController {
+
+    private final UserOrderSummaryService userOrderSummaryService;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<OrderSummaryRebuildResultDto> rebuild() {
+        log.info("POST /api/admin/order-summaries/rebuild - Rebuilding per-user order summaries");
+        return ResponseEntity.ok(userOrderSummaryService.rebuild());
+    }
+}
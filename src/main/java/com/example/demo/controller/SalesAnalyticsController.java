@@ -0,0 +1,41 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.PartSalesDto;
+import com.example.demo.dto.SupplierDailyRevenueDto;
+import com.example.demo.service.SalesAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ADMIN')")
+public class SalesAnalyticsController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    @GetMapping("/top-parts")
+    public ResponseEntity<List<PartSalesDto>> getTopParts(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(salesAnalyticsService.getTopParts(days, limit));
+    }
+
+    @GetMapping("/supplier-revenue")
+    public ResponseEntity<List<SupplierDailyRevenueDto>> getSupplierRevenuePerDay(
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        return ResponseEntity.ok(salesAnalyticsService.getSupplierRevenuePerDay(days));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        salesAnalyticsService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.SqlStatsDto;
+import com.example.demo.service.SqlStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/sql-stats")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ADMIN')")
+public class SqlStatsAdminController {
+
+    private final SqlStatsService sqlStatsService;
+
+    @GetMapping
+    public ResponseEntity<SqlStatsDto> getSqlStats() {
+        return ResponseEntity.ok(sqlStatsService.getLastWindow());
+    }
+}
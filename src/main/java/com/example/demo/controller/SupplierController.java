@@ -1,8 +1,12 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.dto.PageDto;
 import com.example.demo.dto.SupplierDto;
 import com.example.demo.service.SupplierService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,8 +20,19 @@ public class SupplierController {
     private final SupplierService supplierService;
 
     @GetMapping
-    public ResponseEntity<List<SupplierDto>> getAllSuppliers() {
-        return ResponseEntity.ok(supplierService.getAllSuppliers());
+    public ResponseEntity<List<SupplierDto>> getAllSuppliers(
+            @RequestParam(required = false) List<String> include
+    ) {
+        boolean includeParts = include != null && include.contains("parts");
+        return ResponseEntity.ok(supplierService.getAllSuppliers(includeParts));
+    }
+
+    @GetMapping("/{id}/parts")
+    public ResponseEntity<PageDto<CarPartDto>> getSupplierParts(
+            @PathVariable Long id,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable
+    ) {
+        return ResponseEntity.ok(supplierService.getSupplierParts(id, pageable));
     }
 
     @PostMapping
@@ -1,8 +1,13 @@
 package com.example.demo.controller;
+import com.example.demo.dto.PageDto;
 import com.example.demo.dto.RegisterRequestDto;
 import com.example.demo.dto.UserDto;
+import com.example.demo.model.Role;
+import com.example.demo.service.AuthService;
 import com.example.demo.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -26,6 +31,7 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final AuthService authService;
 
     /**
      * Retrieves the profile information of the currently authenticated user.
@@ -46,7 +52,8 @@ public class UserController {
     /**
      * Deletes the account of the currently authenticated user.
      * Uses the authentication context to identify the user to delete.
-     * After successful deletion, the user's token will become invalid.
+     * After successful deletion, the token used for the request is revoked
+     * and the user's refresh tokens are gone with the account.
      *
      * @param authentication Spring Security authentication object containing user details
      * @return ResponseEntity:
@@ -57,6 +64,7 @@ public class UserController {
     public ResponseEntity<Void> deleteCurrentUser(Authentication authentication) {
         String username = authentication.getName();
         userService.deleteUserByUsername(username);
+        authService.logout(authentication);
         return ResponseEntity.noContent().build();
     }
 
@@ -93,10 +101,43 @@ public class UserController {
         return ResponseEntity.ok(userService.getAllUsers());
     }
 
+    /**
+     * Lists users page by page, optionally filtered by name, email prefix and role.
+     * This endpoint is restricted to administrators only.
+     *
+     * @param name prefix of the first or last name, in any case
+     * @param email prefix of the email address
+     * @param role role the users must have
+     * @param pageable page, size (at most 100) and sort by id, firstName, lastName or email
+     * @return ResponseEntity containing:
+     *         - 200 OK with a PageDto of UserDto
+     *         - 400 Bad Request for an unsupported sort property or unknown role
+     *         - 403 Forbidden if the user is not an administrator
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/page")
+    public ResponseEntity<PageDto<UserDto>> getUserPage(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) Role role,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable
+    ) {
+        return ResponseEntity.ok(userService.getUsers(name, email, role, pageable));
+    }
+
+    /**
+     * Creates a user with the USER role. Restricted to administrators.
+     *
+     * @param newUser registration data of the new user
+     * @return ResponseEntity containing:
+     *         - 200 OK with List<UserDto> containing all users, including the new one
+     *         - 409 Conflict if the username or email is taken
+     *         - 403 Forbidden if the user is not an administrator
+     */
     @PreAuthorize("hasAuthority('ADMIN')")
     @PostMapping
     public ResponseEntity<List<UserDto>> addUser(@RequestBody RegisterRequestDto newUser) {
-        var user = userService.addUser(newUser);
+        userService.addUser(newUser);
         return ResponseEntity.ok(userService.getAllUsers());
     }
 
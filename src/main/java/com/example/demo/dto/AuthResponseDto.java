@@ -12,4 +12,7 @@ public class AuthResponseDto {
 
     @JsonProperty("jwt")
     private  String jwt;
-}
\ No newline at end of file
+
+    @JsonProperty("refreshToken")
+    private String refreshToken;
+}
@@ -15,5 +15,6 @@ public class CarPartDto {
     private String name;
     private Double price;
     private Integer stock;
+    private Integer reorderThreshold;
     private String supplierName;
 }
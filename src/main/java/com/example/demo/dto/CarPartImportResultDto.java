@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CarPartImportResultDto {
+    private long processed;
+    private long inserted;
+    private long updated;
+    private long rejected;
+    private List<ImportRowErrorDto> errors;
+    private boolean errorsTruncated;
+    private long durationMs;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * SQL statistics of one aggregation window, statements ordered by total execution time.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlStatsDto {
+    private Instant windowStart;
+    private Instant windowEnd;
+    private long executions;
+    private List<SqlStatementStatsDto> topStatements;
+}
@@ -18,4 +18,5 @@ public class SupplierDto {
     private Address address;
     private String email;
     private List<CarPartDto> carParts;
+    private Long partCount;
 }
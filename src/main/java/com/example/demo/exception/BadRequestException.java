@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * Request content the service cannot process, e.g. an unsupported sort property or an invalid
+ * bulk update. Mapped to 400, unlike other runtime exceptions, which signal server errors.
+ */
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
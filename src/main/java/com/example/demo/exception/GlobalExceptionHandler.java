@@ -22,11 +22,13 @@ import java.util.stream.Collectors;
  * Handles the following exceptions:
  * - UsernameNotFoundException: Returns 404 when a user is not found
  * - BadCredentialsException: Returns 401 for invalid login credentials
+ * - InvalidRefreshTokenException: Returns 401 for an unknown, expired or reused refresh token
  * - AccessDeniedException: Returns 403 for unauthorized access or 404 for user not found cases
  * - RegistrationException: Returns 409 for registration conflicts (e.g., duplicate username)
  * - ResourceNotFoundException: Returns 404 when a requested resource is not found
  * - ResourceAlreadyExistsException: Returns 409 when trying to create a resource that already exists
  * - MethodArgumentNotValidException: Returns 400 with validation errors for invalid request data
+ * - BadRequestException: Returns 400 for unprocessable request content, including ImportValidationException
  * - Exception: Returns 500 for any unhandled exceptions
  *
  * All responses follow a consistent format:
@@ -68,6 +70,19 @@ public class GlobalExceptionHandler {
                 .body(createErrorResponse("Invalid username or password", HttpStatus.UNAUTHORIZED, "Authentication Failed"));
     }
 
+    /**
+     * Handles refresh tokens that cannot be exchanged.
+     * Returns HTTP 401 without telling whether the token was unknown, expired or reused.
+     *
+     * @param ex The InvalidRefreshTokenException that was thrown
+     * @return ResponseEntity with 401 status and error details
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(createErrorResponse("Invalid or expired refresh token", HttpStatus.UNAUTHORIZED, "Authentication Failed"));
+    }
+
     /**
      * Handles access denied exceptions.
      * Returns HTTP 403 for general access denied cases.
@@ -153,6 +168,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Handles requests whose content cannot be processed, e.g. a malformed bulk upload.
+     * Returns HTTP 400 with a "Bad Request" message.
+     *
+     * @param ex The BadRequestException that was thrown
+     * @return ResponseEntity with 400 status and error details
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleBadRequest(BadRequestException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(createErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, "Bad Request"));
+    }
+
     /**
      * Handles any unhandled exceptions.
      * Returns HTTP 500 with an "Internal Server Error" message.
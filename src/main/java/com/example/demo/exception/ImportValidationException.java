@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * A bulk import upload that cannot be read at all (unsupported type, missing CSV header,
+ * malformed JSON). The whole import is rolled back; invalid rows are reported individually instead.
+ */
+public class ImportValidationException extends BadRequestException {
+    public ImportValidationException(String message) {
+        super(message);
+    }
+}
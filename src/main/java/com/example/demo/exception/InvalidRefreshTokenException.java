@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * A refresh token that is unknown, expired or was already used. The message names the reason
+ * for logs; clients only get a generic 401.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -1,23 +1,31 @@
 package com.example.demo.model;
 
+import com.example.demo.service.CarPartEntityListener;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_car_part_supplier", columnList = "supplier_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @DynamicUpdate
+@EntityListeners(CarPartEntityListener.class)
 @ToString(exclude = "supplier")
 public class CarPart {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "car_part_seq")
+    @SequenceGenerator(name = "car_part_seq", sequenceName = "car_part_seq", allocationSize = Sequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -29,6 +37,11 @@ public class CarPart {
     @Column(nullable = false)
     private Integer stock;
 
+    /**
+     * Stock level at or below which the part should be reordered; null disables the alert.
+     */
+    private Integer reorderThreshold;
+
     @ManyToOne
     @JoinColumn(name = "supplier_id")
     private Supplier supplier;
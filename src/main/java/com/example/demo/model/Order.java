@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user", columnList = "user_id"),
+        @Index(name = "idx_orders_date", columnList = "date")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -20,7 +23,8 @@ import java.util.List;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = Sequences.ALLOCATION_SIZE)
     private Long id;
 
     private Double total;
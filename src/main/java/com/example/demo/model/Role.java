@@ -1,6 +1,47 @@
 package com.example.demo.model;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * User roles. A set of roles is stored in users.roles and in the token's rl claim as a bitmask
+ * of {@link #bit()}, so the bits must never be renumbered.
+ */
 public enum Role {
-    USER,
-    ADMIN
+    USER(1),
+    ADMIN(1 << 1);
+
+    private static final Role[] VALUES = values();
+
+    private final int bit;
+
+    Role(int bit) {
+        this.bit = bit;
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    public static int toMask(Collection<Role> roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.bit;
+        }
+        return mask;
+    }
+
+    /**
+     * @return the roles of the mask; unknown bits are ignored
+     */
+    public static Set<Role> fromMask(int mask) {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : VALUES) {
+            if ((mask & role.bit) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
 }
@@ -0,0 +1,20 @@
+package com.example.demo.model;
+
+/**
+ * Shared settings of the entity id sequences.
+ *
+ * Ids come from database sequences instead of IDENTITY columns so Hibernate knows an id before
+ * the insert runs and can send inserts as JDBC batches. Each sequence call reserves a block of
+ * {@link #ALLOCATION_SIZE} ids which the pooled-lo optimizer hands out in memory, so only one
+ * in {@value #ALLOCATION_SIZE} inserts costs a sequence round trip.
+ */
+public final class Sequences {
+
+    /**
+     * Ids reserved per sequence call; also used as the sequence increment when the schema is generated.
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private Sequences() {
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Stored JWT signing key pair, shared by all instances. The private key is encrypted with a key
+ * derived from jwt.secret; the public key is published in the JWKS.
+ *
+ * Each rotation creates the next generation. The generation is unique, so when several instances
+ * rotate at the same time only one key is stored and the others adopt it.
+ */
+@Entity
+@Table(name = "signing_keys", uniqueConstraints =
+        @UniqueConstraint(name = "uk_signing_keys_generation", columnNames = "generation"))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SigningKey {
+
+    @Id
+    @Column(length = 36)
+    private String kid;
+
+    @Column(nullable = false)
+    private Long generation;
+
+    @Column(nullable = false, length = 10)
+    private String algorithm;
+
+    @Column(name = "public_key", nullable = false, length = 1024)
+    private byte[] publicKey;
+
+    @Column(name = "private_key", nullable = false, length = 4096)
+    private byte[] privateKey;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
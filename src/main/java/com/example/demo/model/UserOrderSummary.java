@@ -0,0 +1,33 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Per-user order aggregates, maintained incrementally by order placement so the account page
+ * does not have to load every order of a user.
+ */
+@Entity
+@Table(name = "user_order_summaries")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserOrderSummary {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false)
+    private double totalSpent;
+
+    private LocalDate lastOrderDate;
+}
@@ -2,10 +2,62 @@ package com.example.demo.repository;
 
 
 import com.example.demo.model.CarPart;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CarPartRepository extends JpaRepository<CarPart, Long> {
     // Basic CRUD operations are inherited from JpaRepository
+
+    @Query("select p.supplier.id as supplierId, count(p) as partCount from CarPart p " +
+            "where p.supplier is not null group by p.supplier.id")
+    List<SupplierPartCount> countPartsPerSupplier();
+
+    @Query("select p from CarPart p join fetch p.supplier s where s.id in :supplierIds order by p.id")
+    List<CarPart> findAllBySupplierIds(@Param("supplierIds") Collection<Long> supplierIds);
+
+    Page<CarPart> findBySupplierId(Long supplierId, Pageable pageable);
+
+    @Query("select p.id as id, p.name as name from CarPart p")
+    List<CarPartName> findAllNames();
+
+    @Query("select p.id as id, p.name as name from CarPart p where p.supplier.id = :supplierId")
+    List<CarPartName> findNamesBySupplierId(@Param("supplierId") Long supplierId);
+
+    @Query("select p from CarPart p left join fetch p.supplier order by p.id")
+    List<CarPart> findAllWithSupplier();
+
+    @Query("select p from CarPart p left join fetch p.supplier where p.id in :ids")
+    List<CarPart> findAllWithSupplierByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.id as id, p.stock as stock, p.reorderThreshold as reorderThreshold from CarPart p " +
+            "where p.reorderThreshold is not null")
+    List<StockLevel> findStockLevels();
+
+    interface SupplierPartCount {
+        Long getSupplierId();
+
+        Long getPartCount();
+    }
+
+    interface CarPartName {
+        Long getId();
+
+        String getName();
+    }
+
+    interface StockLevel {
+        Long getId();
+
+        Integer getStock();
+
+        Integer getReorderThreshold();
+    }
 }
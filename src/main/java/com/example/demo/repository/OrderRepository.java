@@ -2,13 +2,49 @@ package com.example.demo.repository;
 
 import com.example.demo.model.Order;
 import com.example.demo.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    @EntityGraph(attributePaths = {"items", "items.carPart", "items.carPart.supplier"})
     List<Order> findByUser(User user);
+
+    @Override
+    @EntityGraph(attributePaths = {"user", "items", "items.carPart", "items.carPart.supplier"})
+    List<Order> findAll();
+
+    /**
+     * Sold quantity and revenue (quantity x current part price) per day, part and supplier.
+     */
+    @Query("""
+            select o.date as day, p.id as carPartId, s.id as supplierId,
+                   sum(i.quantity) as quantity, sum(i.quantity * p.price) as revenue
+            from OrderItem i
+            join i.order o
+            join i.carPart p
+            left join p.supplier s
+            where o.date >= :from
+            group by o.date, p.id, s.id
+            """)
+    List<DailyPartSales> aggregateDailyPartSales(@Param("from") LocalDate from);
+
+    interface DailyPartSales {
+        LocalDate getDay();
+
+        Long getCarPartId();
+
+        Long getSupplierId();
+
+        Long getQuantity();
+
+        Double getRevenue();
+    }
 }
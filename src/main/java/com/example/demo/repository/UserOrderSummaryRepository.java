@@ -0,0 +1,68 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.UserOrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserOrderSummaryRepository extends JpaRepository<UserOrderSummary, Long> {
+
+    /**
+     * Atomically adds one order to a user's aggregate row.
+     *
+     * @return the number of updated rows, 0 when the user has no aggregate row yet
+     */
+    @Modifying
+    @Query("""
+            update UserOrderSummary s
+            set s.orderCount = s.orderCount + 1,
+                s.totalSpent = s.totalSpent + :total,
+                s.lastOrderDate = case when s.lastOrderDate is null or s.lastOrderDate < :date
+                                       then :date else s.lastOrderDate end
+            where s.userId = :userId
+            """)
+    int addOrder(@Param("userId") Long userId, @Param("total") double total, @Param("date") LocalDate date);
+
+    /**
+     * Locks the users' rows until the end of the transaction. Order recording and the rebuild take
+     * this lock before touching a user's aggregate row, so they never interleave for the same user.
+     */
+    @Query(value = "select id from users where id in (:userIds) order by id for update", nativeQuery = true)
+    List<Long> lockUsers(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("delete from UserOrderSummary s where s.userId in :userIds")
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("delete from UserOrderSummary s where s.userId not in (select o.user.id from Order o)")
+    int deleteWithoutOrders();
+
+    @Query("select distinct o.user.id from Order o order by o.user.id")
+    List<Long> findUserIdsWithOrders();
+
+    @Query("""
+            select o.user.id as userId, count(o) as orderCount, sum(o.total) as totalSpent, max(o.date) as lastOrderDate
+            from Order o
+            where o.user.id in :userIds
+            group by o.user.id
+            """)
+    List<OrderTotals> aggregateOrdersByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    interface OrderTotals {
+        Long getUserId();
+
+        Long getOrderCount();
+
+        Double getTotalSpent();
+
+        LocalDate getLastOrderDate();
+    }
+}
@@ -1,11 +1,22 @@
 package com.example.demo.repository;
 
 
+import com.example.demo.dto.UserDto;
+import com.example.demo.model.Role;
 import com.example.demo.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for User entity operations.
@@ -13,7 +24,37 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * Resolved on every authenticated request, so the result is kept in the query cache.
+     * Any write to the users table invalidates it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
+
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    /**
+     * Admin user listing as a DTO projection, so neither the password nor any entity is loaded.
+     * Name and email are prefix patterns (null matches all); names match regardless of case, so
+     * the name indexes only serve sorting, while email prefixes use the unique email index. Roles
+     * lists the accepted role sets, as a role is stored in a bitmask.
+     */
+    @Query(value = """
+            select new com.example.demo.dto.UserDto(u.id, u.firstName, u.lastName, u.email)
+            from User u
+            where (:name is null or lower(u.firstName) like lower(:name) escape '!'
+                   or lower(u.lastName) like lower(:name) escape '!')
+              and (:email is null or u.email like :email escape '!')
+              and u.roles in :roles
+            """,
+            countQuery = """
+            select count(u) from User u
+            where (:name is null or lower(u.firstName) like lower(:name) escape '!'
+                   or lower(u.lastName) like lower(:name) escape '!')
+              and (:email is null or u.email like :email escape '!')
+              and u.roles in :roles
+            """)
+    Page<UserDto> findUserPage(@Param("name") String namePattern, @Param("email") String emailPattern,
+                               @Param("roles") Collection<Set<Role>> roles, Pageable pageable);
 }
@@ -0,0 +1,63 @@
+package com.example.demo.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory set of asymmetric JWT keys: the key currently used for signing and every key whose
+ * tokens may still be in circulation, looked up by kid when a token is verified.
+ *
+ * The content is replaced as a whole by {@link JwtKeyRotation}; readers see one consistent
+ * snapshot without locking. The public JWKS document is rendered once per replacement.
+ * While the ring is empty tokens are signed with the HMAC secret.
+ */
+@Component
+public class JwtKeyRing {
+
+    private record Snapshot(JwtSigningKey signingKey, Map<String, JwtSigningKey> byKid, Map<String, Object> jwks) {
+    }
+
+    private volatile Snapshot snapshot = new Snapshot(null, Map.of(), Map.of("keys", List.of()));
+
+    /**
+     * @return the key new tokens are signed with, or null to sign with the HMAC secret
+     */
+    public JwtSigningKey signingKey() {
+        return snapshot.signingKey();
+    }
+
+    /**
+     * @return the verification key for a kid, or null if it is unknown or no longer valid
+     */
+    public JwtSigningKey find(String kid) {
+        return snapshot.byKid().get(kid);
+    }
+
+    /**
+     * @return the JWKS document ({"keys": [...]}) with the public half of every verification key
+     */
+    public Map<String, Object> jwks() {
+        return snapshot.jwks();
+    }
+
+    /**
+     * Replaces the ring content.
+     *
+     * @param signingKey       key to sign new tokens with, must be one of the verification keys
+     * @param verificationKeys keys whose tokens are accepted
+     */
+    public void replace(JwtSigningKey signingKey, Collection<JwtSigningKey> verificationKeys) {
+        Map<String, JwtSigningKey> byKid = verificationKeys.stream()
+                .collect(Collectors.toUnmodifiableMap(JwtSigningKey::kid, Function.identity()));
+        if (signingKey != null && !byKid.containsKey(signingKey.kid())) {
+            throw new IllegalArgumentException("Signing key " + signingKey.kid() + " is not a verification key");
+        }
+        List<Map<String, Object>> keys = verificationKeys.stream().map(JwtSigningKey::toJwk).toList();
+        snapshot = new Snapshot(signingKey, byKid, Map.of("keys", keys));
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.demo.security;
+
+import com.example.demo.model.SigningKey;
+import com.example.demo.repository.SigningKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Creates, publishes and retires the asymmetric JWT signing keys kept in {@link JwtKeyRing}.
+ *
+ * Keys live in the signing_keys table so every instance signs with the same key and verifies
+ * the tokens of all others. Every jwt.signing.sync-interval each instance reloads the table and,
+ * once the newest key is older than jwt.signing.rotation-interval or of another algorithm, adds a
+ * new one. A new key is published in the JWKS right away but only used for signing after
+ * jwt.signing.activation-delay, so other instances and downstream verifiers with a cached JWKS
+ * know it before the first token signed with it arrives. The very first key is used at once, so
+ * an instance that receives a token with a kid it does not know yet re-reads the table right away
+ * (at most every {@link #RELOAD_INTERVAL}, without creating or deleting keys) instead of waiting
+ * for its next sync.
+ * A replaced key keeps verifying until the last token it signed has expired and is then deleted.
+ *
+ * Instances that rotate at the same time all try to store the next generation; the unique
+ * generation lets only one of them succeed and the others re-read the table and use that key.
+ *
+ * With jwt.signing.algorithm=HS256 nothing is done and tokens are signed with jwt.secret.
+ */
+@Slf4j
+@Component
+public class JwtKeyRotation {
+
+    static final String HMAC = "HS256";
+    private static final int IV_BYTES = 12;
+    static final Duration RELOAD_INTERVAL = Duration.ofSeconds(10);
+
+    private final SecureRandom random = new SecureRandom();
+    private final SigningKeyRepository signingKeyRepository;
+    private final JwtKeyRing keyRing;
+    private final String algorithm;
+    private final Duration rotationInterval;
+    private final Duration activationDelay;
+    private final Duration tokenLifetime;
+    private final SecretKey encryptionKey;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong lastReload = new AtomicLong(System.nanoTime() - RELOAD_INTERVAL.toNanos());
+
+    public JwtKeyRotation(SigningKeyRepository signingKeyRepository, JwtKeyRing keyRing,
+                          @Value("${jwt.signing.algorithm:HS256}") String algorithm,
+                          @Value("${jwt.signing.rotation-interval:P7D}") Duration rotationInterval,
+                          @Value("${jwt.signing.activation-delay:PT10M}") Duration activationDelay,
+                          @Value("${jwt.expiration}") long expirationSeconds,
+                          @Value("${jwt.secret}") String secret) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.keyRing = keyRing;
+        this.algorithm = algorithm;
+        this.rotationInterval = rotationInterval;
+        this.activationDelay = activationDelay;
+        this.tokenLifetime = Duration.ofSeconds(expirationSeconds + JwtUtil.ALLOWED_CLOCK_SKEW_SECONDS);
+        this.encryptionKey = deriveEncryptionKey(secret);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        synchronize();
+    }
+
+    /**
+     * Reloads the stored keys, rotates when due and replaces the key ring content.
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.sync-interval:PT1M}", initialDelayString = "${jwt.signing.sync-interval:PT1M}")
+    public void synchronize() {
+        if (HMAC.equals(algorithm)) {
+            return;
+        }
+        lock.lock();
+        try {
+            Instant now = Instant.now();
+            List<SigningKey> stored = new ArrayList<>(signingKeyRepository.findAllByOrderByGenerationAsc());
+            SigningKey newest = stored.isEmpty() ? null : stored.get(stored.size() - 1);
+            if (newest == null || !newest.getAlgorithm().equals(algorithm)
+                    || newest.getCreatedAt().isBefore(now.minus(rotationInterval))) {
+                long generation = newest == null ? 0 : newest.getGeneration() + 1;
+                try {
+                    SigningKey created = signingKeyRepository.saveAndFlush(
+                            encode(JwtSigningKey.generate(algorithm, now), generation));
+                    stored.add(created);
+                    log.info("Created {} JWT signing key {}", algorithm, created.getKid());
+                } catch (DataIntegrityViolationException e) {
+                    log.info("JWT signing key generation {} was created by another instance", generation);
+                    stored = new ArrayList<>(signingKeyRepository.findAllByOrderByGenerationAsc());
+                }
+            }
+            publish(stored, now, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reloads the stored keys after a token arrived with a kid that is not in the key ring,
+     * typically signed with a key another instance has just created.
+     * Runs on the request thread, so it only reads the table: it never creates or deletes keys,
+     * runs at most once per {@link #RELOAD_INTERVAL} across all callers and does not wait while
+     * a synchronisation is in progress.
+     *
+     * @return whether the keys were reloaded; false when the last reload was too recent
+     */
+    public boolean reloadForUnknownKey() {
+        if (HMAC.equals(algorithm)) {
+            return false;
+        }
+        long now = System.nanoTime();
+        long last = lastReload.get();
+        if (now - last < RELOAD_INTERVAL.toNanos() || !lastReload.compareAndSet(last, now)) {
+            return false;
+        }
+        if (!lock.tryLock()) {
+            return false;
+        }
+        try {
+            publish(signingKeyRepository.findAllByOrderByGenerationAsc(), Instant.now(), false);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the key ring content with the stored keys, skipping keys whose tokens have all
+     * expired; those are deleted as well when deleteExpired is set.
+     */
+    private void publish(List<SigningKey> stored, Instant now, boolean deleteExpired) {
+        JwtSigningKey signingKey = null;
+        List<JwtSigningKey> verificationKeys = new ArrayList<>();
+        for (int i = 0; i < stored.size(); i++) {
+            SigningKey entity = stored.get(i);
+            if (i + 1 < stored.size() && activation(stored.get(i + 1)).plus(tokenLifetime).isBefore(now)) {
+                if (deleteExpired) {
+                    signingKeyRepository.delete(entity);
+                    log.info("Deleted expired JWT signing key {}", entity.getKid());
+                }
+                continue;
+            }
+            JwtSigningKey key = decode(entity);
+            verificationKeys.add(key);
+            if (signingKey == null || !activation(entity).isAfter(now)) {
+                signingKey = key;
+            }
+        }
+        keyRing.replace(signingKey, verificationKeys);
+    }
+
+    private Instant activation(SigningKey key) {
+        return key.getCreatedAt().plus(activationDelay);
+    }
+
+    private SigningKey encode(JwtSigningKey key, long generation) {
+        return SigningKey.builder()
+                .kid(key.kid())
+                .generation(generation)
+                .algorithm(key.algorithm())
+                .publicKey(key.publicKey().getEncoded())
+                .privateKey(encrypt(key.privateKey().getEncoded()))
+                .createdAt(key.createdAt())
+                .build();
+    }
+
+    private JwtSigningKey decode(SigningKey entity) {
+        return JwtSigningKey.decode(entity.getKid(), entity.getAlgorithm(), entity.getCreatedAt(),
+                entity.getPublicKey(), decrypt(entity.getPrivateKey()));
+    }
+
+    private byte[] encrypt(byte[] plain) {
+        try {
+            byte[] iv = new byte[IV_BYTES];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(128, iv));
+            byte[] encrypted = cipher.doFinal(plain);
+            byte[] result = Arrays.copyOf(iv, IV_BYTES + encrypted.length);
+            System.arraycopy(encrypted, 0, result, IV_BYTES, encrypted.length);
+            return result;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot encrypt signing key", e);
+        }
+    }
+
+    private byte[] decrypt(byte[] stored) {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(128, stored, 0, IV_BYTES));
+            return cipher.doFinal(stored, IV_BYTES, stored.length - IV_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot decrypt signing key, was jwt.secret changed?", e);
+        }
+    }
+
+    private static SecretKey deriveEncryptionKey(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(digest, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
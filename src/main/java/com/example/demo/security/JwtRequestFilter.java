@@ -1,15 +1,22 @@
 package com.example.demo.security;
 
 import com.example.demo.service.CustomUserDetailsService;
+import com.example.demo.utils.AppMetrics;
+import com.example.demo.utils.RequestTimings;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,18 +28,26 @@ import java.util.List;
  * JWT Authentication Filter that intercepts incoming requests to validate JWT tokens.
  * This filter is responsible for:
  * 1. Extracting JWT tokens from the Authorization header
- * 2. Validating the tokens
- * 3. Setting up Spring Security's SecurityContext with the authenticated user
+ * 2. Validating the tokens and rejecting revoked ones
+ * 3. Setting up Spring Security's SecurityContext with the authenticated user,
+ *    keeping the token as credentials so it can be revoked on logout
  * 
- * The filter is applied to all requests except the login endpoint.
+ * The filter is applied to all requests except the login endpoint. A token that cannot be verified
+ * (expired, tampered, malformed, signed with an unknown key or issued to a since deleted user) leaves the request unauthenticated,
+ * so protected endpoints answer 401 and the client can renew it with its refresh token.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtRequestFilter extends OncePerRequestFilter {
 
+    private static final Timer AUTHENTICATION_TIMER = AppMetrics.timer("app.security.jwt.filter",
+            "Time spent authenticating a request from its bearer token, excluding the rest of the chain");
+
 //    private final UserDetailsService userDetailsService;
     private final CustomUserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList revocationList;
 
     /**
      * Determines if the filter should be skipped for the current request.
@@ -51,7 +66,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
      * Processes each request to validate JWT tokens and set up authentication.
      * This method:
      * 1. Extracts the JWT token from the Authorization header
-     * 2. Validates the token and extracts user information
+     * 2. Parses and verifies the token once and reads user, expiry, token id and roles from its claims
      * 3. Sets up the SecurityContext with the authenticated user
      *
      * @param request The HTTP request
@@ -64,27 +79,55 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
+        Timer.Sample sample = Timer.start();
         final String authorizationHeader = request.getHeader("Authorization");
 
         String username = null;
         String jwt = null;
+        Claims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
+            try {
+                claims = jwtUtil.parseClaims(jwt);
+                username = claims.getSubject();
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Rejected bearer token: {}", e.getMessage());
+            }
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = loadUser(username);
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                List<GrantedAuthority> authorities = jwtUtil.extractRoles(jwt);
+            if (userDetails != null && jwtUtil.validateToken(claims, userDetails) && !isRevoked(claims)) {
+                List<GrantedAuthority> authorities = jwtUtil.extractRoles(claims);
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, authorities);
+                    userDetails, jwt, authorities);
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
+        RequestTimings.record(RequestTimings.Phase.AUTH, sample.stop(AUTHENTICATION_TIMER));
         chain.doFilter(request, response);
     }
+
+    /**
+     * Tokens of a deleted user stay verifiable until they expire; they leave the request
+     * unauthenticated instead of failing it.
+     */
+    private UserDetails loadUser(String username) {
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            log.debug("Rejected bearer token of unknown user {}", username);
+            return null;
+        }
+    }
+
+    /**
+     * Skips the revocation lookup entirely while nothing is revoked, which is the common case.
+     */
+    private boolean isRevoked(Claims claims) {
+        return !revocationList.isEmpty() && revocationList.isRevoked(claims.getId());
+    }
 }
\ No newline at end of file
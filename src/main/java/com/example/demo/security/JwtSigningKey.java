@@ -0,0 +1,146 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Asymmetric JWT signing key, identified in token headers by its key id (kid).
+ *
+ * @param kid        key id written to the token header and the JWKS
+ * @param algorithm  JWS algorithm name: RS256, ES256 or EdDSA
+ * @param createdAt  creation time, used to order keys for rotation
+ * @param privateKey key used to sign tokens
+ * @param publicKey  key used to verify tokens, published in the JWKS
+ */
+public record JwtSigningKey(String kid, String algorithm, Instant createdAt, PrivateKey privateKey, PublicKey publicKey) {
+
+    public static final String RS256 = "RS256";
+    public static final String ES256 = "ES256";
+    public static final String EDDSA = "EdDSA";
+
+    /**
+     * Generates a key pair for the algorithm: RSA 2048, EC P-256 or Ed25519.
+     */
+    public static JwtSigningKey generate(String algorithm, Instant createdAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm(algorithm));
+            switch (algorithm) {
+                case RS256 -> generator.initialize(2048);
+                case ES256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+                default -> {
+                    // Ed25519 has a fixed key size
+                }
+            }
+            KeyPair pair = generator.generateKeyPair();
+            return new JwtSigningKey(UUID.randomUUID().toString(), algorithm, createdAt, pair.getPrivate(), pair.getPublic());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate " + algorithm + " signing key", e);
+        }
+    }
+
+    /**
+     * Restores a key from its X.509 encoded public and PKCS#8 encoded private key.
+     */
+    public static JwtSigningKey decode(String kid, String algorithm, Instant createdAt, byte[] publicKey, byte[] privateKey) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance(keyAlgorithm(algorithm));
+            return new JwtSigningKey(kid, algorithm, createdAt,
+                    factory.generatePrivate(new PKCS8EncodedKeySpec(privateKey)),
+                    factory.generatePublic(new X509EncodedKeySpec(publicKey)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot decode " + algorithm + " signing key " + kid, e);
+        }
+    }
+
+    public SignatureAlgorithm signatureAlgorithm() {
+        return switch (algorithm) {
+            case RS256 -> Jwts.SIG.RS256;
+            case ES256 -> Jwts.SIG.ES256;
+            case EDDSA -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalArgumentException("Unsupported signing algorithm: " + algorithm);
+        };
+    }
+
+    /**
+     * @return the public key as a JSON Web Key (RFC 7517, RFC 8037 for Ed25519)
+     */
+    public Map<String, Object> toJwk() {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm);
+        if (publicKey instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(unsigned(rsa.getModulus(), 0)));
+            jwk.put("e", base64Url(unsigned(rsa.getPublicExponent(), 0)));
+        } else if (publicKey instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(unsigned(ec.getW().getAffineX(), 32)));
+            jwk.put("y", base64Url(unsigned(ec.getW().getAffineY(), 32)));
+        } else {
+            // X.509 encoding of an Ed25519 key is a fixed 12 byte prefix followed by the raw key
+            byte[] encoded = publicKey.getEncoded();
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", base64Url(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+        }
+        return jwk;
+    }
+
+    /**
+     * Keeps key material out of logs.
+     */
+    @Override
+    public String toString() {
+        return "JwtSigningKey[kid=" + kid + ", algorithm=" + algorithm + ", createdAt=" + createdAt + "]";
+    }
+
+    private static String keyAlgorithm(String algorithm) {
+        return switch (algorithm) {
+            case RS256 -> "RSA";
+            case ES256 -> "EC";
+            case EDDSA -> "Ed25519";
+            default -> throw new IllegalArgumentException("Unsupported signing algorithm: " + algorithm);
+        };
+    }
+
+    /**
+     * Big-endian magnitude without the sign byte, left-padded to length when given.
+     */
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length >= length) {
+            return bytes;
+        }
+        byte[] padded = new byte[length];
+        System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+        return padded;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -1,33 +1,90 @@
 package com.example.demo.security;
 
+import com.example.demo.utils.AppMetrics;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.security.Key;
+import java.time.Instant;
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for handling JWT (JSON Web Token) operations.
  * This class provides methods for token generation, validation, and extraction of claims.
+ *
+ * Tokens are signed with the current key of the {@link JwtKeyRing} (RS256, ES256 or EdDSA) and
+ * carry its kid in the header, so other services can verify them with the public JWKS.
+ * While the ring is empty tokens use HS256 with jwt.secret. Once it has a signing key, tokens
+ * without a kid are only accepted until jwt.signing.hmac-accepted-until, by default for the
+ * refresh token lifetime after startup.
  */
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
+    /**
+     * Seconds an expired token is still accepted to tolerate clock differences between servers.
+     */
+    public static final long ALLOWED_CLOCK_SKEW_SECONDS = 60;
+
+    /**
+     * Role bitmask claim, see {@link com.example.demo.model.Role#bit()}.
+     */
+    static final String ROLES_CLAIM = "rl";
+    private static final String LEGACY_ROLES_CLAIM = "roles";
+
+    private static final Timer PARSE_TIMER = AppMetrics.timer("app.security.jwt",
+            "Time spent parsing and verifying or signing JWTs", "operation", "parse");
+    private static final Timer SIGN_TIMER = AppMetrics.timer("app.security.jwt",
+            "Time spent parsing and verifying or signing JWTs", "operation", "sign");
+
     @Value("${jwt.secret}")
     private String secret;
 
+    /**
+     * Access token lifetime in seconds.
+     */
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    /**
+     * End of the migration window (ISO-8601 instant) in which tokens without a kid, signed with
+     * jwt.secret, are still accepted while an asymmetric key signs. Empty keeps them accepted for
+     * the refresh token lifetime after startup; a past instant rejects them at once.
+     */
+    @Value("${jwt.signing.hmac-accepted-until:}")
+    private String hmacAcceptedUntil;
+
+    /**
+     * Refresh token lifetime in seconds, the default length of the HS256 migration window.
+     */
+    @Value("${jwt.refresh.expiration}")
+    private long refreshExpiration;
+
+    private final Instant startedAt = Instant.now();
+
+    /**
+     * Absent when the application runs without asymmetric signing keys, e.g. in slice tests.
+     */
+    private final ObjectProvider<JwtKeyRing> keyRing;
+    private final ObjectProvider<JwtKeyRotation> keyRotation;
+
+    private volatile JwtParser parser;
 
     /**
      * Generates a signing key from the secret string.
@@ -35,7 +92,7 @@ public class JwtUtil {
      *
      * @return Key object for JWT signing and verification
      */
-    protected final Key getSigningKey() {
+    protected final SecretKey getSigningKey() {
         byte[] keyBytes = secret.getBytes();
         return Keys.hmacShaKeyFor(keyBytes);
     }
@@ -50,6 +107,16 @@ public class JwtUtil {
         return extractClaim(token, Claims::getSubject);
     }
 
+    /**
+     * Extracts the token id (jti claim) from a JWT token.
+     *
+     * @param token JWT token string
+     * @return unique id of the token, or null for tokens issued without one
+     */
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
     /**
      * Extracts the expiration date from a JWT token.
      *
@@ -69,67 +136,120 @@ public class JwtUtil {
      * @return Extracted claim value
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
     /**
-     * Extracts all claims from a JWT token.
-     * This method parses the token and returns the Claims object containing all token claims.
+     * Parses and verifies a JWT token and returns all of its claims.
+     * Verifying the signature is the expensive part, so callers that need several claims of
+     * the same token should parse it once and use the Claims based methods.
      *
      * @param token JWT token string
      * @return Claims object containing all token claims
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .setAllowedClockSkewSeconds(60)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public Claims parseClaims(String token) {
+        return PARSE_TIMER.record(() -> parser().parseSignedClaims(token).getPayload());
+    }
+
+    /**
+     * HMAC tokens are the only kind while no asymmetric key signs (jwt.signing.algorithm=HS256);
+     * afterwards only until the configured deadline, since jwt.secret is shared configuration.
+     */
+    private boolean acceptsHmac(JwtKeyRing ring, Instant deadline) {
+        return ring == null || ring.signingKey() == null || Instant.now().isBefore(deadline);
+    }
+
+    /**
+     * The parser is immutable and thread-safe, so it is built once. Its key locator picks the
+     * verification key by the kid header on every parse, so key rotation needs no rebuild. An
+     * unknown kid first reloads the stored keys, it may belong to a key another instance just created.
+     */
+    private JwtParser parser() {
+        JwtParser current = parser;
+        if (current == null) {
+            SecretKey hmacKey = getSigningKey();
+            Instant hmacDeadline = hmacAcceptedUntil == null || hmacAcceptedUntil.isBlank()
+                    ? startedAt.plusSeconds(refreshExpiration) : Instant.parse(hmacAcceptedUntil);
+            current = Jwts.parser()
+                    .keyLocator(new LocatorAdapter<Key>() {
+                        @Override
+                        protected Key locate(JwsHeader header) {
+                            String kid = header.getKeyId();
+                            JwtKeyRing ring = keyRing.getIfAvailable();
+                            if (kid == null) {
+                                if (!acceptsHmac(ring, hmacDeadline)) {
+                                    throw new JwtException("JWT without key id is no longer accepted");
+                                }
+                                return hmacKey;
+                            }
+                            JwtSigningKey key = ring == null ? null : ring.find(kid);
+                            JwtKeyRotation rotation = keyRotation.getIfAvailable();
+                            if (key == null && rotation != null && rotation.reloadForUnknownKey()) {
+                                key = ring.find(kid);
+                            }
+                            if (key == null) {
+                                throw new JwtException("Unknown JWT signing key " + kid);
+                            }
+                            return key.publicKey();
+                        }
+                    })
+                    .clockSkewSeconds(ALLOWED_CLOCK_SKEW_SECONDS)
+                    .build();
+            parser = current;
+        }
+        return current;
     }
 
     /**
      * Checks if a JWT token has expired.
      *
-     * @param token JWT token string
+     * @param claims parsed claims of the token
      * @return true if the token has expired, false otherwise
      */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private Boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     /**
      * Generates a new JWT token for a user.
-     * The token includes the user's roles as claims and is signed with the application's secret key.
+     * The token includes the user's roles as a bitmask claim and is signed with the current signing key.
      *
      * @param userDetails UserDetails object containing user information
      * @return Generated JWT token string
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("roles", userDetails.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.toList()));
+        claims.put(ROLES_CLAIM, RoleAuthorities.toMask(userDetails.getAuthorities()));
         return createToken(claims, userDetails.getUsername());
     }
 
     /**
      * Creates a JWT token with the specified claims and subject.
-     * Sets the token's issue time and expiration time.
+     * Sets a unique token id (jti) so the token can be revoked, the issue time and expiration time.
      *
      * @param claims Map of claims to include in the token
      * @param subject Subject (usually username) of the token
      * @return Generated JWT token string
      */
     protected String createToken(Map<String, Object> claims, String subject) {
-        return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+        return SIGN_TIMER.record(() -> {
+            long now = System.currentTimeMillis();
+            JwtBuilder builder = Jwts.builder()
+                    .claims(claims)
+                    .subject(subject)
+                    .id(UUID.randomUUID().toString())
+                    .issuedAt(new Date(now))
+                    .expiration(new Date(now + expiration * 1000));
+            JwtKeyRing ring = keyRing.getIfAvailable();
+            JwtSigningKey key = ring == null ? null : ring.signingKey();
+            if (key == null) {
+                return builder.signWith(getSigningKey(), Jwts.SIG.HS256).compact();
+            }
+            return builder.header().keyId(key.kid()).and()
+                    .signWith(key.privateKey(), key.signatureAlgorithm())
+                    .compact();
+        });
     }
 
     /**
@@ -141,22 +261,44 @@ public class JwtUtil {
      * @return true if the token is valid, false otherwise
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(parseClaims(token), userDetails);
     }
 
     /**
-     * Extracts roles from a JWT token and converts them to GrantedAuthority objects.
-     * This method is used to reconstruct the user's authorities from the token.
+     * Validates already parsed claims against user details.
+     *
+     * @param claims parsed claims of the token, see {@link #parseClaims(String)}
+     * @param userDetails UserDetails object to validate against
+     * @return true if the token is valid, false otherwise
+     */
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        return (claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims));
+    }
+
+    /**
+     * Extracts roles from a JWT token as GrantedAuthority objects.
+     * The returned list is shared and immutable. Tokens issued before the rl claim carry the
+     * role names in a roles claim, which is still accepted until they have expired.
      *
      * @param token JWT token string
      * @return List of GrantedAuthority objects representing the user's roles
      */
     public List<GrantedAuthority> extractRoles(String token) {
-        Claims claims = extractAllClaims(token);
-        List<String> roleNames = claims.get("roles", List.class);
-        return roleNames.stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        return extractRoles(parseClaims(token));
+    }
+
+    /**
+     * Extracts roles from already parsed claims, see {@link #extractRoles(String)}.
+     *
+     * @param claims parsed claims of the token
+     * @return List of GrantedAuthority objects representing the user's roles
+     */
+    public List<GrantedAuthority> extractRoles(Claims claims) {
+        Integer mask = claims.get(ROLES_CLAIM, Integer.class);
+        if (mask == null) {
+            List<?> roleNames = claims.get(LEGACY_ROLES_CLAIM, List.class);
+            mask = roleNames == null ? 0 : RoleAuthorities.namesToMask(roleNames);
+        }
+        return RoleAuthorities.of(mask);
     }
-}
\ No newline at end of file
+}
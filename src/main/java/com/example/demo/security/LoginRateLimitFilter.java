@@ -0,0 +1,200 @@
+package com.example.demo.security;
+
+import com.example.demo.utils.AppMetrics;
+import com.example.demo.utils.RateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Token bucket limits for the unauthenticated endpoints that hash passwords: every POST to
+ * /api/login and /api/register takes a token from the client IP bucket, logins additionally from
+ * the bucket of the submitted username, so spreading a credential-stuffing burst over many
+ * addresses does not help against a single account.
+ *
+ * Runs before the security filter chain, so a rejected request costs neither a BCrypt hash nor a
+ * database lookup. The body is buffered (at most {@value #MAX_BODY_BYTES} bytes) to read the
+ * username and replayed to the controller. Rejections answer 429 with Retry-After in seconds and
+ * are counted in app.security.rate-limit.rejected, tagged with the exhausted key.
+ */
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    static final String LOGIN_PATH = "/api/login";
+    private static final Set<String> PATHS = Set.of(LOGIN_PATH, "/api/register");
+    private static final int MAX_BODY_BYTES = 4096;
+
+    private static final Counter IP_REJECTED = AppMetrics.counter("app.security.rate-limit.rejected",
+            "Login and registration requests rejected by the rate limit", "key", "ip");
+    private static final Counter USERNAME_REJECTED = AppMetrics.counter("app.security.rate-limit.rejected",
+            "Login and registration requests rejected by the rate limit", "key", "username");
+
+    private final RateLimiter ipLimiter;
+    private final RateLimiter usernameLimiter;
+    private final ObjectMapper objectMapper;
+
+    public LoginRateLimitFilter(RateLimiter ipLimiter, RateLimiter usernameLimiter, ObjectMapper objectMapper) {
+        this.ipLimiter = ipLimiter;
+        this.usernameLimiter = usernameLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !PATHS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long wait = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (wait > 0) {
+            IP_REJECTED.increment();
+            reject(response, wait);
+            return;
+        }
+        if (!LOGIN_PATH.equals(request.getServletPath())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large");
+            return;
+        }
+        String username = username(body);
+        if (username != null) {
+            wait = usernameLimiter.tryAcquire(username);
+            if (wait > 0) {
+                USERNAME_REJECTED.increment();
+                reject(response, wait);
+                return;
+            }
+        }
+        chain.doFilter(new BufferedBodyRequest(request, body), response);
+    }
+
+    /**
+     * @return the username of a login body, or null when the body is not the expected JSON
+     *         (the controller then answers it as usual)
+     */
+    private String username(byte[] body) {
+        try {
+            JsonNode username = objectMapper.readTree(body).path("username");
+            return username.isTextual() ? username.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999) / 1_000_000_000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS, "Too many attempts, retry after " + retryAfterSeconds + " seconds");
+    }
+
+    /**
+     * Writes the error body in the format of GlobalExceptionHandler, which does not see
+     * requests rejected by a filter.
+     */
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("timestamp", LocalDateTime.now().toString());
+        error.put("message", message);
+        error.put("status", status.value());
+        error.put("error", status.getReasonPhrase());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * The body is already in memory, so non-blocking readers get all of it at once.
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.security;
+
+import com.example.demo.model.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Pre-allocated, immutable authority lists for every role bitmask, so turning a token's roles
+ * into authorities is a lookup instead of building a list per request.
+ */
+public final class RoleAuthorities {
+
+    private static final Role[] ROLES = Role.values();
+    private static final int ALL_BITS = Role.toMask(List.of(ROLES));
+    private static final List<List<GrantedAuthority>> BY_MASK;
+
+    static {
+        List<List<GrantedAuthority>> byMask = new ArrayList<>(ALL_BITS + 1);
+        for (int mask = 0; mask <= ALL_BITS; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (Role role : ROLES) {
+                if ((mask & role.bit()) != 0) {
+                    authorities.add(new SimpleGrantedAuthority(role.name()));
+                }
+            }
+            byMask.add(List.copyOf(authorities));
+        }
+        BY_MASK = List.copyOf(byMask);
+    }
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * @return the shared authority list of the mask; unknown bits are ignored
+     */
+    public static List<GrantedAuthority> of(int mask) {
+        return BY_MASK.get(mask & ALL_BITS);
+    }
+
+    /**
+     * @return the role bitmask of the authorities; authorities that are not roles are ignored
+     */
+    public static int toMask(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            mask |= bitOf(authority.getAuthority());
+        }
+        return mask;
+    }
+
+    /**
+     * @return the role bitmask of role names, as found in the legacy roles claim
+     */
+    public static int namesToMask(Collection<?> names) {
+        int mask = 0;
+        for (Object name : names) {
+            mask |= bitOf(String.valueOf(name));
+        }
+        return mask;
+    }
+
+    private static int bitOf(String name) {
+        for (Role role : ROLES) {
+            if (role.name().equals(name)) {
+                return role.bit();
+            }
+        }
+        return 0;
+    }
+}
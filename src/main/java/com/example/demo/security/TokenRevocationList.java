@@ -0,0 +1,146 @@
+package com.example.demo.security;
+
+import com.example.demo.model.RevokedToken;
+import com.example.demo.repository.RevokedTokenRepository;
+import com.example.demo.utils.BloomFilter;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access tokens revoked before their expiry, checked on every authenticated request.
+ *
+ * Revocations are persisted in revoked_tokens and mirrored in memory: a Bloom filter answers
+ * "not revoked" for almost every token after a few bit probes, and only filter hits are confirmed
+ * against the exact set. Each instance polls the table every app.security.revocation.sync-interval
+ * for revocations made elsewhere. Entries are dropped once the token has expired, including the
+ * parser's clock skew, so memory is bounded by the number of tokens revoked within one access
+ * token lifetime; the filter is rebuilt whenever entries are dropped.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(JwtUtil.ALLOWED_CLOCK_SKEW_SECONDS);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final int expectedEntries;
+    private final Map<String, Instant> expiryByTokenId = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+    private int filterCapacity;
+    private Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository, JwtUtil jwtUtil,
+                               @Value("${app.security.revocation.expected-entries:10000}") int expectedEntries) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.expectedEntries = expectedEntries;
+        rebuildFilter();
+    }
+
+    public boolean isEmpty() {
+        return expiryByTokenId.isEmpty();
+    }
+
+    /**
+     * @param tokenId jti claim of a valid token, may be null for tokens issued without one
+     * @return true if the token was revoked
+     */
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && filter.mightContain(tokenId) && expiryByTokenId.containsKey(tokenId);
+    }
+
+    /**
+     * Revokes a valid access token until it expires. The token is rejected in memory only once
+     * the revocation has committed, so a rolled back revocation never rejects a valid token.
+     *
+     * @param token the encoded JWT
+     * @return false if the token carries no jti claim and cannot be revoked individually
+     */
+    @Transactional
+    public boolean revoke(String token) {
+        Claims claims = jwtUtil.parseClaims(token);
+        if (claims.getId() == null) {
+            log.debug("Token of {} has no jti claim and cannot be revoked", claims.getSubject());
+            return false;
+        }
+        Instant expiresAt = claims.getExpiration().toInstant();
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(claims.getId())
+                .expiresAt(expiresAt)
+                .revokedAt(Instant.now())
+                .build());
+        String tokenId = claims.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(tokenId, expiresAt);
+                }
+            });
+        } else {
+            add(tokenId, expiresAt);
+        }
+        return true;
+    }
+
+    /**
+     * Picks up revocations recorded by other instances and purges expired entries from memory
+     * and from the table.
+     */
+    @Scheduled(fixedDelayString = "${app.security.revocation.sync-interval:PT30S}")
+    @Transactional
+    public void sync() {
+        Instant now = Instant.now();
+        Instant since;
+        synchronized (this) {
+            since = lastSync.minus(SYNC_OVERLAP);
+            lastSync = now;
+        }
+        revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, now.minus(CLOCK_SKEW))
+                .forEach(token -> add(token.getTokenId(), token.getExpiresAt()));
+
+        int purged = revokedTokenRepository.deleteExpired(now.minus(CLOCK_SKEW));
+        synchronized (this) {
+            if (expiryByTokenId.values().removeIf(expiresAt -> expiresAt.plus(CLOCK_SKEW).isBefore(now))) {
+                rebuildFilter();
+            }
+        }
+        if (purged > 0) {
+            log.debug("Purged {} expired token revocations", purged);
+        }
+    }
+
+    private synchronized void add(String tokenId, Instant expiresAt) {
+        if (expiryByTokenId.put(tokenId, expiresAt) != null) {
+            return;
+        }
+        if (expiryByTokenId.size() > filterCapacity) {
+            rebuildFilter();
+        } else {
+            filter.put(tokenId);
+        }
+    }
+
+    private void rebuildFilter() {
+        int capacity = Math.max(expectedEntries, expiryByTokenId.size() * 2);
+        BloomFilter rebuilt = BloomFilter.create(capacity, FALSE_POSITIVE_RATE);
+        expiryByTokenId.keySet().forEach(rebuilt::put);
+        filterCapacity = capacity;
+        filter = rebuilt;
+    }
+}
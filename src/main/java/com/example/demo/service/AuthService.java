@@ -4,18 +4,24 @@ import com.example.demo.dto.RegisterRequestDto;
 import com.example.demo.exception.RegistrationException;
 import com.example.demo.model.Role;
 import com.example.demo.model.User;
+import com.example.demo.repository.RefreshTokenRepository;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.security.JwtUtil;
+import com.example.demo.security.TokenRevocationList;
+import com.example.demo.utils.AppMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.EnumSet;
 
 /**
  * Service class handling authentication and registration operations.
@@ -23,6 +29,7 @@ import java.util.List;
  * - User authentication and JWT token generation
  * - New user registration with automatic token generation
  * - Password encryption
+ * - Logout, revoking the presented access token and all refresh tokens
  * 
  * This service integrates with Spring Security for authentication
  * and uses JWT for generating secure tokens.
@@ -31,11 +38,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final Timer PASSWORD_CHECK_TIMER = AppMetrics.timer("app.security.bcrypt",
+            "Time spent in BCrypt password hashing and verification", "operation", "verify");
+    private static final Timer PASSWORD_ENCODE_TIMER = AppMetrics.timer("app.security.bcrypt",
+            "Time spent in BCrypt password hashing and verification", "operation", "encode");
+
     private final AuthenticationManager authenticationManager;
     private final CustomUserDetailsService userDetailsService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     /**
      * Authenticates a user and generates a JWT token.
@@ -54,12 +68,15 @@ public class AuthService {
             throw new UsernameNotFoundException("User not found with username: " + username);
         }
 
+        Timer.Sample sample = Timer.start();
         try {
             authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(username, password)
             );
         } catch (BadCredentialsException ex) {
             throw new BadCredentialsException("Invalid username or password");
+        } finally {
+            sample.stop(PASSWORD_CHECK_TIMER);
         }
 
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
@@ -88,17 +105,32 @@ public class AuthService {
 
         User user = User.builder()
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(PASSWORD_ENCODE_TIMER.record(() -> passwordEncoder.encode(request.getPassword())))
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .email(request.getEmail())
-                .roles(List.of(Role.USER))
+                .roles(EnumSet.of(Role.USER))
                 .build();
 
         userRepository.save(user);
         return generateToken(user.getUsername());
     }
 
+    /**
+     * Ends the sessions of an authenticated user.
+     * The access token used for this request is revoked until it expires and every refresh
+     * token of the user is deleted, so no new access tokens can be minted.
+     *
+     * @param authentication the current authentication, carrying the JWT as credentials
+     */
+    @Transactional
+    public void logout(Authentication authentication) {
+        if (authentication.getCredentials() instanceof String jwt) {
+            tokenRevocationList.revoke(jwt);
+        }
+        refreshTokenRepository.deleteByUsername(authentication.getName());
+    }
+
     /**
      * Helper method to generate a JWT token for a given username.
      * Loads user details and uses JwtUtil to create the token.
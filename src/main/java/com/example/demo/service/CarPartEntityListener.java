@@ -0,0 +1,125 @@
+package com.example.demo.service;
+
+import com.example.demo.model.CarPart;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the in-memory car part indexes in step with every write that goes through JPA,
+ * whether it comes from the catalogue endpoints, order placement or data seeding.
+ * Hibernate resolves this listener through the Spring bean container.
+ *
+ * JPA callbacks run at flush time, before the transaction is decided, so changes are collected
+ * per transaction (the last change of a part wins) and only applied once it has committed.
+ * A rolled back import, rename or order therefore leaves both indexes untouched.
+ * Once a transaction changes more than app.catalog.index.max-pending-changes parts, as a large
+ * import does, its changes are dropped and both indexes are rebuilt after the commit instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class CarPartEntityListener {
+
+    private final CarPartSearchIndex searchIndex;
+    private final LowStockIndex lowStockIndex;
+    // Looked up when needed: both services reach the repositories, which Hibernate is still building.
+    private final ObjectProvider<CarPartSearchService> searchService;
+    private final ObjectProvider<LowStockService> lowStockService;
+
+    @Value("${app.catalog.index.max-pending-changes:10000}")
+    private int maxPendingChanges;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(CarPart carPart) {
+        long partId = carPart.getId();
+        Integer stock = carPart.getStock();
+        Integer reorderThreshold = carPart.getReorderThreshold();
+        String name = carPart.getName();
+        afterCommit(partId, () -> {
+            searchIndex.put(partId, name);
+            lowStockIndex.update(partId, stock, reorderThreshold);
+        });
+    }
+
+    @PostRemove
+    public void onRemoved(CarPart carPart) {
+        long partId = carPart.getId();
+        afterCommit(partId, () -> {
+            searchIndex.remove(partId);
+            lowStockIndex.remove(partId);
+        });
+    }
+
+    /**
+     * Runs the change after the current transaction commits, or at once without a transaction.
+     */
+    private void afterCommit(long partId, Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        PendingChanges pending = pendingChanges();
+        if (pending.rebuild) {
+            return;
+        }
+        pending.changes.put(partId, change);
+        if (pending.changes.size() > maxPendingChanges) {
+            pending.changes.clear();
+            pending.rebuild = true;
+        }
+    }
+
+    /**
+     * Reloads both indexes from the database. The services read in a new transaction, as the
+     * committed one may still be bound to the thread.
+     */
+    private void rebuildIndexes() {
+        searchService.getObject().rebuildIndex();
+        lowStockService.getObject().rebuildIndex();
+    }
+
+    /**
+     * Looked up among the registered synchronizations rather than bound as a transaction
+     * resource, so a REQUIRES_NEW transaction collects and commits its own changes.
+     */
+    private PendingChanges pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending && pending.owner == this) {
+                return pending;
+            }
+        }
+        PendingChanges pending = new PendingChanges(this);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private static final class PendingChanges implements TransactionSynchronization {
+
+        private final CarPartEntityListener owner;
+        private final Map<Long, Runnable> changes = new LinkedHashMap<>();
+        private boolean rebuild;
+
+        private PendingChanges(CarPartEntityListener owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void afterCommit() {
+            if (rebuild) {
+                owner.rebuildIndexes();
+            } else {
+                changes.values().forEach(Runnable::run);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.dto.CarPartImportResultDto;
+import com.example.demo.dto.ImportRowErrorDto;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.CarPart;
+import com.example.demo.model.Supplier;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.CarPartRepository.CarPartName;
+import com.example.demo.repository.SupplierRepository;
+import com.example.demo.utils.CarPartImportReader;
+import com.example.demo.utils.CarPartImportReader.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk upsert of a supplier's catalogue from a streamed CSV or JSON upload.
+ *
+ * Rows are validated as they are read and written in chunks of the JDBC batch size. Each chunk
+ * loads the parts it updates with one query, is flushed as a JDBC batch and then cleared from the
+ * persistence context, so memory stays flat regardless of the upload size.
+ * Parts are matched by name (case-insensitive) within the supplier.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CarPartImportService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EntityManager entityManager;
+    private final SupplierRepository supplierRepository;
+    private final CarPartRepository carPartRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Transactional(rollbackFor = IOException.class)
+    public CarPartImportResultDto importCarParts(Long supplierId, InputStream input, MediaType contentType)
+            throws IOException {
+        log.debug("Importing car parts for supplier id: {}", supplierId);
+        if (!supplierRepository.existsById(supplierId)) {
+            log.error("Supplier not found with id: {}", supplierId);
+            throw new ResourceNotFoundException("Supplier", supplierId);
+        }
+        long start = System.nanoTime();
+        var result = CarPartImportResultDto.builder().errors(new ArrayList<>()).build();
+
+        Map<String, Long> existingIds = new HashMap<>();
+        for (CarPartName part : carPartRepository.findNamesBySupplierId(supplierId)) {
+            existingIds.put(key(part.getName()), part.getId());
+        }
+
+        List<CarPartDto> chunk = new ArrayList<>(batchSize);
+        try (var reader = CarPartImportReader.open(input, contentType, objectMapper)) {
+            Row row;
+            while ((row = reader.next()) != null) {
+                result.setProcessed(result.getProcessed() + 1);
+                String error = row.error() != null ? row.error() : validate(row.part());
+                if (error != null) {
+                    reject(result, row.number(), error);
+                    continue;
+                }
+                chunk.add(row.part());
+                if (chunk.size() == batchSize) {
+                    writeChunk(supplierId, chunk, existingIds, result);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(supplierId, chunk, existingIds, result);
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        result.setDurationMs(elapsedNanos / 1_000_000);
+        result.setRowsPerSecond(result.getProcessed() * 1_000_000_000.0 / elapsedNanos);
+        log.info("Imported car parts for supplier id: {} - {} inserted, {} updated, {} rejected in {} ms",
+                supplierId, result.getInserted(), result.getUpdated(), result.getRejected(), result.getDurationMs());
+        return result;
+    }
+
+    private void writeChunk(Long supplierId, List<CarPartDto> chunk, Map<String, Long> existingIds,
+                            CarPartImportResultDto result) {
+        List<Long> updateIds = chunk.stream()
+                .map(part -> existingIds.get(key(part.getName())))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, CarPart> existing = updateIds.isEmpty() ? Map.of() : carPartRepository.findAllById(updateIds).stream()
+                .collect(Collectors.toMap(CarPart::getId, Function.identity()));
+        Supplier supplier = entityManager.getReference(Supplier.class, supplierId);
+        Map<String, CarPart> inserted = new HashMap<>();
+
+        for (CarPartDto part : chunk) {
+            String key = key(part.getName());
+            Long id = existingIds.get(key);
+            CarPart target = id != null ? existing.get(id) : inserted.get(key);
+            if (target == null) {
+                target = CarPart.builder()
+                        .name(part.getName().trim())
+                        .price(part.getPrice())
+                        .stock(part.getStock())
+                        .supplier(supplier)
+                        .build();
+                entityManager.persist(target);
+                inserted.put(key, target);
+                result.setInserted(result.getInserted() + 1);
+            } else {
+                target.setName(part.getName().trim());
+                target.setPrice(part.getPrice());
+                target.setStock(part.getStock());
+                result.setUpdated(result.getUpdated() + 1);
+            }
+        }
+
+        entityManager.flush();
+        inserted.forEach((key, part) -> existingIds.put(key, part.getId()));
+        entityManager.clear();
+    }
+
+    private static void reject(CarPartImportResultDto result, long row, String message) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new ImportRowErrorDto(row, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    static String validate(CarPartDto part) {
+        if (part.getName() == null || part.getName().isBlank()) {
+            return "Name is required";
+        }
+        if (part.getName().trim().length() > 255) {
+            return "Name must be at most 255 characters";
+        }
+        if (part.getPrice() == null || !Double.isFinite(part.getPrice()) || part.getPrice() < 0) {
+            return "Price must be a non-negative number";
+        }
+        if (part.getStock() == null || part.getStock() < 0) {
+            return "Stock must be a non-negative integer";
+        }
+        return null;
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,477 @@
+package com.example.demo.service;
+
+import com.example.demo.utils.LongIntHashMap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * In-memory trigram index over car part names used for type-ahead search.
+ *
+ * Every indexed name gets a dense document slot. Each word of the normalised name is padded
+ * ("  brake ") and split into trigrams packed into a long; every trigram maps to a posting list
+ * of slots kept in a growable int array. Both lookups are primitive hash maps, so the index holds
+ * no boxed ids or trigrams. Slots are only ever appended, so posting lists stay sorted and a query
+ * is answered by intersecting the lists of its trigrams, starting from the shortest one.
+ *
+ * Query tokens of three or more characters match anywhere inside a word, shorter tokens match
+ * word prefixes only. Very broad queries stop after {@value #MAX_SCORED_CANDIDATES} scored
+ * candidates so a one-letter prefix cannot scan the whole catalogue. Renames and deletes
+ * tombstone the old slot; the index compacts itself once a quarter of the slots are dead.
+ * A rebuild loads its snapshot without blocking searches and replays the changes made meanwhile.
+ */
+@Component
+public class CarPartSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_SLOTS_BEFORE_COMPACTION = 1024;
+    private static final int MAX_SCORED_CANDIDATES = 10_000;
+    private static final int NO_SLOT = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final LongIntHashMap slotByPartId = new LongIntHashMap(NO_SLOT);
+    private final LongIntHashMap postingByTrigram = new LongIntHashMap(NO_SLOT);
+
+    private long[] partIds = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private PostingList[] postings = new PostingList[INITIAL_CAPACITY];
+    private int postingCount;
+    private int slotCount;
+    private int deadSlots;
+    /**
+     * Latest normalised name of every part changed since the running rebuild started loading,
+     * null for removed parts; null itself while no rebuild runs.
+     */
+    private Map<Long, String> changedDuringRebuild;
+
+    /**
+     * Replaces the whole index content.
+     *
+     * @param namesByPartId part names keyed by part id
+     */
+    public void rebuild(Map<Long, String> namesByPartId) {
+        rebuild(() -> namesByPartId);
+    }
+
+    /**
+     * Replaces the whole index content with a snapshot loaded while the index keeps serving.
+     * Changes applied while the snapshot loads may be missing from it, so they are recorded and
+     * replayed on top of the snapshot when it is swapped in.
+     *
+     * @param loader loads part names keyed by part id
+     */
+    public void rebuild(Supplier<Map<Long, String>> loader) {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Map<Long, String> namesByPartId;
+            try {
+                namesByPartId = loader.get();
+            } catch (RuntimeException e) {
+                stopRecording();
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                Map<Long, String> changed = stopRecording();
+                clear(Math.max(INITIAL_CAPACITY, namesByPartId.size()));
+                namesByPartId.forEach((partId, name) -> addSlot(partId, normalize(name)));
+                changed.forEach((partId, normalized) -> {
+                    if (normalized == null) {
+                        removeSlot(partId);
+                    } else {
+                        replaceSlot(partId, normalized);
+                    }
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a part or re-indexes it when its name changed. Unchanged names are a cheap no-op,
+     * so this can be called on every entity update.
+     */
+    public void put(long partId, String name) {
+        String normalized = normalize(name);
+        lock.readLock().lock();
+        try {
+            int slot = slotByPartId.get(partId);
+            if (slot != NO_SLOT && normalized.equals(names[slot]) && changedDuringRebuild == null) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(partId, normalized);
+            }
+            replaceSlot(partId, normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long partId) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(partId, null);
+            }
+            removeSlot(partId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByPartId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the best matching parts for a partial name.
+     * Names starting with the whole query rank first, then names where every token starts a
+     * word, then plain substring matches; shorter names win ties.
+     *
+     * @param query partial part name as typed by the user
+     * @param limit maximum number of results
+     * @return matching part ids, best match first
+     */
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String[] tokens = normalized.split(" ");
+        String[] wordTokens = new String[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            wordTokens[i] = " " + tokens[i];
+        }
+        long[] trigrams = queryTrigrams(tokens);
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[trigrams.length];
+            for (int i = 0; i < trigrams.length; i++) {
+                int posting = postingByTrigram.get(trigrams[i]);
+                if (posting == NO_SLOT) {
+                    return List.of();
+                }
+                lists[i] = postings[posting];
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            TopK top = new TopK(limit);
+            PostingList shortest = lists[0];
+            int[] cursors = new int[lists.length];
+            int scored = 0;
+            candidates:
+            for (int i = 0; i < shortest.size; i++) {
+                int slot = shortest.slots[i];
+                for (int l = 1; l < lists.length; l++) {
+                    PostingList list = lists[l];
+                    int found = Arrays.binarySearch(list.slots, cursors[l], list.size, slot);
+                    if (found < 0) {
+                        cursors[l] = -found - 1;
+                        if (cursors[l] == list.size) {
+                            break candidates;
+                        }
+                        continue candidates;
+                    }
+                    cursors[l] = found;
+                }
+                String name = names[slot];
+                if (name != null) {
+                    int score = score(name, normalized, tokens, wordTokens);
+                    if (score > 0) {
+                        top.offer(score, partIds[slot]);
+                        if (++scored == MAX_SCORED_CANDIDATES) {
+                            break;
+                        }
+                    }
+                }
+            }
+            return top.toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private Map<Long, String> stopRecording() {
+        lock.writeLock().lock();
+        try {
+            Map<Long, String> changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replaceSlot(long partId, String normalized) {
+        int slot = slotByPartId.get(partId);
+        if (slot != NO_SLOT) {
+            if (normalized.equals(names[slot])) {
+                return;
+            }
+            names[slot] = null;
+            deadSlots++;
+        }
+        addSlot(partId, normalized);
+        compactIfNeeded();
+    }
+
+    private void removeSlot(long partId) {
+        int slot = slotByPartId.remove(partId);
+        if (slot == NO_SLOT) {
+            return;
+        }
+        names[slot] = null;
+        deadSlots++;
+        compactIfNeeded();
+    }
+
+    private void clear(int capacity) {
+        slotByPartId.clear();
+        postingByTrigram.clear();
+        postings = new PostingList[INITIAL_CAPACITY];
+        postingCount = 0;
+        partIds = new long[capacity];
+        names = new String[capacity];
+        slotCount = 0;
+        deadSlots = 0;
+    }
+
+    private void addSlot(long partId, String normalized) {
+        if (slotCount == partIds.length) {
+            partIds = Arrays.copyOf(partIds, slotCount * 2);
+            names = Arrays.copyOf(names, slotCount * 2);
+        }
+        int slot = slotCount++;
+        partIds[slot] = partId;
+        names[slot] = normalized;
+        slotByPartId.put(partId, slot);
+        forEachIndexTrigram(normalized, trigram -> postingFor(trigram).add(slot));
+    }
+
+    private PostingList postingFor(long trigram) {
+        int posting = postingByTrigram.get(trigram);
+        if (posting != NO_SLOT) {
+            return postings[posting];
+        }
+        if (postingCount == postings.length) {
+            postings = Arrays.copyOf(postings, postingCount * 2);
+        }
+        PostingList list = new PostingList();
+        postings[postingCount] = list;
+        postingByTrigram.put(trigram, postingCount++);
+        return list;
+    }
+
+    private void compactIfNeeded() {
+        if (slotCount < MIN_SLOTS_BEFORE_COMPACTION || deadSlots * 4 < slotCount) {
+            return;
+        }
+        long[] liveIds = new long[slotCount - deadSlots];
+        String[] liveNames = new String[liveIds.length];
+        int live = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (names[slot] != null) {
+                liveIds[live] = partIds[slot];
+                liveNames[live] = names[slot];
+                live++;
+            }
+        }
+        clear(Math.max(INITIAL_CAPACITY, live * 2));
+        for (int i = 0; i < live; i++) {
+            addSlot(liveIds[i], liveNames[i]);
+        }
+    }
+
+    private static void forEachIndexTrigram(String normalized, LongConsumer consumer) {
+        for (String word : normalized.split(" ")) {
+            if (!word.isEmpty()) {
+                String padded = "  " + word + " ";
+                for (int i = 0; i + 3 <= padded.length(); i++) {
+                    consumer.accept(trigram(padded, i));
+                }
+            }
+        }
+    }
+
+    private static long[] queryTrigrams(String[] tokens) {
+        Set<Long> trigrams = new LinkedHashSet<>();
+        for (String token : tokens) {
+            // Short tokens only make sense as word prefixes, longer ones may match mid-word.
+            String text = token.length() < 3 ? "  " + token : token;
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                trigrams.add(trigram(text, i));
+            }
+        }
+        return trigrams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32)
+                | ((long) text.charAt(offset + 1) << 16)
+                | text.charAt(offset + 2);
+    }
+
+    private static int score(String name, String query, String[] tokens, String[] wordTokens) {
+        int score = name.startsWith(query) ? 100 : 0;
+        for (int i = 0; i < tokens.length; i++) {
+            int at = name.indexOf(tokens[i]);
+            if (at < 0) {
+                // Every trigram matched but the token itself does not occur.
+                return 0;
+            }
+            boolean wordStart = at == 0 || name.charAt(at - 1) == ' ' || name.indexOf(wordTokens[i], at) >= 0;
+            score += wordStart ? 10 : 1;
+        }
+        return score * 1024 - Math.min(name.length(), 1023);
+    }
+
+    private static final class PostingList {
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+
+    /**
+     * Bounded min-heap keeping the highest scored part ids.
+     */
+    private static final class TopK {
+        private final int[] scores;
+        private final long[] ids;
+        private int size;
+
+        private TopK(int capacity) {
+            scores = new int[capacity];
+            ids = new long[capacity];
+        }
+
+        private void offer(int score, long id) {
+            if (size < scores.length) {
+                scores[size] = score;
+                ids[size] = id;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                scores[0] = score;
+                ids[0] = id;
+                siftDown(0);
+            }
+        }
+
+        private List<Long> toList() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingInt(i -> -scores[i]).thenComparingLong(i -> ids[i]));
+            List<Long> result = new ArrayList<>(size);
+            for (Integer i : order) {
+                result.add(ids[i]);
+            }
+            return result;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (scores[parent] <= scores[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && scores[left] < scores[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && scores[right] < scores[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(smallest, index);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+        }
+    }
+}
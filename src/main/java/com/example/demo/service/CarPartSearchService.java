@@ -0,0 +1,75 @@
+package com.example.demo.service;
+
+import com.example.demo.config.SampleDataReadyEvent;
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.model.CarPart;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.CarPartRepository.CarPartName;
+import com.example.demo.utils.CarPartMapperM;
+import com.example.demo.utils.RequestTimings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CarPartSearchService {
+
+    static final int MAX_LIMIT = 50;
+
+    private final CarPartSearchIndex searchIndex;
+    private final CarPartRepository carPartRepository;
+    private final CarPartMapperM carPartMapper;
+
+    /**
+     * Builds the search index from the database once the startup data is in place.
+     * Later changes are applied incrementally by {@link CarPartEntityListener}, which rebuilds
+     * the index instead after a transaction that changed too many parts to apply one by one.
+     */
+    @EventListener(SampleDataReadyEvent.class)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void rebuildIndex() {
+        long start = System.nanoTime();
+        searchIndex.rebuild(this::loadNames);
+        log.info("Indexed {} car part names in {} ms", searchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Map<Long, String> loadNames() {
+        Map<Long, String> names = new HashMap<>();
+        for (CarPartName part : carPartRepository.findAllNames()) {
+            names.put(part.getId(), part.getName());
+        }
+        return names;
+    }
+
+    public List<CarPartDto> search(String query, int limit) {
+        log.debug("Searching car parts for: {}", query);
+        var ids = searchIndex.search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CarPart> partsById = carPartRepository.findAllWithSupplierByIdIn(ids).stream()
+                .collect(Collectors.toMap(CarPart::getId, Function.identity()));
+        // Keep the index ranking; ids deleted since the lookup are dropped.
+        long mappingStart = RequestTimings.start();
+        var result = ids.stream()
+                .map(partsById::get)
+                .filter(Objects::nonNull)
+                .map(carPartMapper::modelToDtoWithSupplier)
+                .toList();
+        RequestTimings.stop(RequestTimings.Phase.MAPPING, mappingStart);
+        log.debug("Found {} car parts for: {}", result.size(), query);
+        return result;
+    }
+}
@@ -1,32 +1,66 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CarPartBulkUpdateResultDto;
+import com.example.demo.dto.CarPartDeltaDto;
 import com.example.demo.dto.CarPartDto;
+import com.example.demo.exception.BadRequestException;
 import com.example.demo.exception.ResourceAlreadyExistsException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.model.CarPart;
 import com.example.demo.repository.CarPartRepository;
 import com.example.demo.repository.SupplierRepository;
 import com.example.demo.utils.CarPartMapperM;
+import com.example.demo.utils.AppMetrics;
+import com.example.demo.utils.RequestTimings;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CarPartService {
 
+    private static final Timer LIST_TIMER = AppMetrics.timer("app.catalog.list",
+            "Time spent listing the catalogue", "operation", "car-parts");
+
+    /**
+     * Columns a bulk delta can change, and the order in which parts are flushed grouped by them.
+     */
+    private static final int PRICE = 1;
+    private static final int STOCK = 2;
+    private static final int[] CHANGED_COLUMN_GROUPS = {PRICE, STOCK, PRICE | STOCK};
+
     private final CarPartRepository carPartRepository;
     private final SupplierRepository supplierRepository;
     private final CarPartMapperM carPartMapper;
+    private final EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
 
+    @Transactional(readOnly = true)
     public List<CarPartDto> getAllCarParts() {
         log.debug("Fetching all car parts");
-        var result = carPartRepository.findAll().stream()
+        Timer.Sample sample = Timer.start();
+        var carParts = carPartRepository.findAllWithSupplier();
+        long mappingStart = RequestTimings.start();
+        var result = carParts.stream()
                 .map(carPartMapper::modelToDtoWithSupplier)
                 .toList();
+        RequestTimings.stop(RequestTimings.Phase.MAPPING, mappingStart);
+        sample.stop(LIST_TIMER);
         log.debug("Found {} car parts", result.size());
         return result;
     }
@@ -60,6 +94,88 @@ public class CarPartService {
         return result;
     }
 
+    /**
+     * Applies price/stock deltas to many parts in one transaction.
+     * Deltas are merged per part first, then the parts are loaded one chunk at a time with a single
+     * query. @DynamicUpdate keeps each UPDATE to the changed columns, so a concurrent order's stock
+     * change is never overwritten by a price update. Parts are therefore flushed grouped by which
+     * columns change: each group is one statement and one JDBC batch per chunk. Parts whose values
+     * do not change are not written.
+     *
+     * @param deltas the changes to apply; for each field the last delta wins when an id repeats
+     * @return the number of parts actually changed and the ids that do not exist
+     */
+    @Transactional
+    public CarPartBulkUpdateResultDto bulkUpdateCarParts(List<CarPartDeltaDto> deltas) {
+        log.debug("Bulk updating {} car parts", deltas.size());
+        deltas.forEach(CarPartService::validateDelta);
+
+        Map<Long, CarPartDeltaDto> merged = new LinkedHashMap<>();
+        for (CarPartDeltaDto delta : deltas) {
+            merged.merge(delta.getId(), delta, (earlier, later) -> new CarPartDeltaDto(later.getId(),
+                    later.getPrice() != null ? later.getPrice() : earlier.getPrice(),
+                    later.getStock() != null ? later.getStock() : earlier.getStock()));
+        }
+        List<Long> ids = new ArrayList<>(merged.keySet());
+
+        int chunkSize = Math.max(1, batchSize);
+        int updated = 0;
+        List<Long> missingIds = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunkIds = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            Map<Long, CarPart> parts = carPartRepository.findAllById(chunkIds).stream()
+                    .collect(Collectors.toMap(CarPart::getId, Function.identity()));
+            chunkIds.stream().filter(id -> !parts.containsKey(id)).forEach(missingIds::add);
+            for (int columns : CHANGED_COLUMN_GROUPS) {
+                int changed = 0;
+                for (Long id : chunkIds) {
+                    CarPart part = parts.get(id);
+                    CarPartDeltaDto delta = merged.get(id);
+                    if (part == null || changedColumns(delta, part) != columns) {
+                        continue;
+                    }
+                    if ((columns & PRICE) != 0) {
+                        part.setPrice(delta.getPrice());
+                    }
+                    if ((columns & STOCK) != 0) {
+                        part.setStock(delta.getStock());
+                    }
+                    changed++;
+                }
+                if (changed > 0) {
+                    entityManager.flush();
+                    updated += changed;
+                }
+            }
+            entityManager.clear();
+        }
+        log.info("Bulk updated {} car parts, {} ids not found", updated, missingIds.size());
+        return new CarPartBulkUpdateResultDto(updated, missingIds);
+    }
+
+    private static int changedColumns(CarPartDeltaDto delta, CarPart part) {
+        int columns = 0;
+        if (delta.getPrice() != null && !delta.getPrice().equals(part.getPrice())) {
+            columns |= PRICE;
+        }
+        if (delta.getStock() != null && !delta.getStock().equals(part.getStock())) {
+            columns |= STOCK;
+        }
+        return columns;
+    }
+
+    private static void validateDelta(CarPartDeltaDto delta) {
+        if (delta.getId() == null) {
+            throw new BadRequestException("Car part id is required");
+        }
+        if (delta.getPrice() != null && (!Double.isFinite(delta.getPrice()) || delta.getPrice() < 0)) {
+            throw new BadRequestException("Invalid price for car part " + delta.getId() + ": " + delta.getPrice());
+        }
+        if (delta.getStock() != null && delta.getStock() < 0) {
+            throw new BadRequestException("Invalid stock for car part " + delta.getId() + ": " + delta.getStock());
+        }
+    }
+
     public void deleteCarPart(Long id) {
         log.debug("Deleting car part with id: {}", id);
         if (!carPartRepository.existsById(id)) {
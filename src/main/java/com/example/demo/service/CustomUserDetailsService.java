@@ -1,8 +1,11 @@
 package com.example.demo.service;
 
+import com.example.demo.model.Role;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.security.RoleAuthorities;
+import com.example.demo.utils.AppMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 
@@ -10,22 +13,36 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private static final Timer LOAD_USER_TIMER = AppMetrics.timer("app.security.user.load",
+            "Time spent loading user details for authentication");
+
     private final UserRepository userRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        Timer.Sample sample = Timer.start();
+        try {
+            return findUserDetails(username);
+        } finally {
+            sample.stop(LOAD_USER_TIMER);
+        }
+    }
+
+    private UserDetails findUserDetails(String username) {
         return userRepository.findByUsername(username)
-                .map(user -> User
-                        .withUsername(user.getUsername())
-                        .password(user.getPassword())
-                        .authorities(user.getRoles().stream()
-                                .map(role -> new SimpleGrantedAuthority(role.name()))
-                                .toList())
-                        .accountExpired(false)
-                        .accountLocked(false)
-                        .credentialsExpired(false)
-                        .disabled(false)
-                        .build())
+                .map(CustomUserDetailsService::toUserDetails)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
+
+    static UserDetails toUserDetails(com.example.demo.model.User user) {
+        return User
+                .withUsername(user.getUsername())
+                .password(user.getPassword())
+                .authorities(RoleAuthorities.of(Role.toMask(user.getRoles())))
+                .accountExpired(false)
+                .accountLocked(false)
+                .credentialsExpired(false)
+                .disabled(false)
+                .build();
+    }
 }
\ No newline at end of file
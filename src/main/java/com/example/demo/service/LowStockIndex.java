@@ -0,0 +1,279 @@
+package com.example.demo.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Indexed min-heap of the parts that have a reorder threshold, keyed by stock minus threshold.
+ *
+ * A part needs restocking when its key is zero or below. Because every heap node is smaller than
+ * its children, those parts form a subtree at the root: the lookup walks that subtree best-first
+ * and stops at the first node above zero, so it costs O(k log k) for k results regardless of the
+ * catalogue size. Each part remembers its heap position, which makes stock changes O(log n).
+ * A rebuild loads its snapshot without blocking lookups and replays the changes made meanwhile.
+ */
+@Component
+public class LowStockIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Map<Long, Integer> positionByPartId = new HashMap<>();
+
+    private long[] partIds = new long[INITIAL_CAPACITY];
+    private long[] margins = new long[INITIAL_CAPACITY];
+    private int size;
+    /**
+     * Latest margin of every part changed since the running rebuild started loading, null for
+     * removed parts; null itself while no rebuild runs.
+     */
+    private Map<Long, Long> changedDuringRebuild;
+
+    /**
+     * Replaces the whole index content.
+     *
+     * @param marginsByPartId stock minus reorder threshold, keyed by part id
+     */
+    public void rebuild(Map<Long, Long> marginsByPartId) {
+        rebuild(() -> marginsByPartId);
+    }
+
+    /**
+     * Replaces the whole index content with a snapshot loaded while the index keeps serving.
+     * Changes applied while the snapshot loads may be missing from it, so they are recorded and
+     * replayed on top of the snapshot when it is swapped in.
+     *
+     * @param loader loads stock minus reorder threshold, keyed by part id
+     */
+    public void rebuild(Supplier<Map<Long, Long>> loader) {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Map<Long, Long> marginsByPartId;
+            try {
+                marginsByPartId = loader.get();
+            } catch (RuntimeException e) {
+                stopRecording();
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                Map<Long, Long> changed = stopRecording();
+                replaceAll(marginsByPartId);
+                changed.forEach((partId, margin) -> {
+                    if (margin == null) {
+                        removePart(partId);
+                    } else {
+                        updatePart(partId, margin);
+                    }
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void replaceAll(Map<Long, Long> marginsByPartId) {
+        int capacity = Math.max(INITIAL_CAPACITY, marginsByPartId.size());
+        partIds = new long[capacity];
+        margins = new long[capacity];
+        positionByPartId.clear();
+        size = 0;
+        marginsByPartId.forEach((partId, margin) -> {
+            partIds[size] = partId;
+            margins[size] = margin;
+            positionByPartId.put(partId, size);
+            size++;
+        });
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Adds, moves or drops a part after its stock or threshold changed.
+     * Parts without a threshold are not tracked.
+     */
+    public void update(long partId, Integer stock, Integer reorderThreshold) {
+        if (stock == null || reorderThreshold == null) {
+            remove(partId);
+            return;
+        }
+        long margin = (long) stock - reorderThreshold;
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(partId, margin);
+            }
+            updatePart(partId, margin);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long partId) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(partId, null);
+            }
+            removePart(partId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param limit maximum number of results
+     * @return ids of the parts at or below their reorder threshold, largest shortfall first
+     */
+    public List<Long> findAtOrBelowThreshold(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>();
+            PriorityQueue<Integer> frontier = new PriorityQueue<>(this::compare);
+            if (size > 0 && margins[0] <= 0) {
+                frontier.add(0);
+            }
+            while (!frontier.isEmpty() && result.size() < limit) {
+                int node = frontier.poll();
+                result.add(partIds[node]);
+                for (int child = 2 * node + 1; child <= 2 * node + 2 && child < size; child++) {
+                    if (margins[child] <= 0) {
+                        frontier.add(child);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Long> stopRecording() {
+        lock.writeLock().lock();
+        try {
+            Map<Long, Long> changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void updatePart(long partId, long margin) {
+        Integer position = positionByPartId.get(partId);
+        if (position == null) {
+            if (size == partIds.length) {
+                partIds = Arrays.copyOf(partIds, size * 2);
+                margins = Arrays.copyOf(margins, size * 2);
+            }
+            partIds[size] = partId;
+            margins[size] = margin;
+            positionByPartId.put(partId, size);
+            siftUp(size++);
+        } else if (margin != margins[position]) {
+            long previous = margins[position];
+            margins[position] = margin;
+            if (margin < previous) {
+                siftUp(position);
+            } else {
+                siftDown(position);
+            }
+        }
+    }
+
+    private void removePart(long partId) {
+        Integer position = positionByPartId.remove(partId);
+        if (position == null) {
+            return;
+        }
+        int last = --size;
+        if (position != last) {
+            move(last, position);
+            siftDown(position);
+            siftUp(position);
+        }
+    }
+
+    private int compare(int a, int b) {
+        int byMargin = Long.compare(margins[a], margins[b]);
+        return byMargin != 0 ? byMargin : Long.compare(partIds[a], partIds[b]);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (compare(parent, index) <= 0) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && compare(left, smallest) < 0) {
+                smallest = left;
+            }
+            if (right < size && compare(right, smallest) < 0) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(smallest, index);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long partId = partIds[a];
+        long margin = margins[a];
+        partIds[a] = partIds[b];
+        margins[a] = margins[b];
+        partIds[b] = partId;
+        margins[b] = margin;
+        positionByPartId.put(partIds[a], a);
+        positionByPartId.put(partIds[b], b);
+    }
+
+    private void move(int from, int to) {
+        partIds[to] = partIds[from];
+        margins[to] = margins[from];
+        positionByPartId.put(partIds[to], to);
+    }
+}
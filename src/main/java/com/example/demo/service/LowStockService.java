@@ -0,0 +1,73 @@
+package com.example.demo.service;
+
+import com.example.demo.config.SampleDataReadyEvent;
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.model.CarPart;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.CarPartRepository.StockLevel;
+import com.example.demo.utils.CarPartMapperM;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LowStockService {
+
+    static final int MAX_LIMIT = 500;
+
+    private final LowStockIndex lowStockIndex;
+    private final CarPartRepository carPartRepository;
+    private final CarPartMapperM carPartMapper;
+
+    /**
+     * Builds the low-stock index from the database once the startup data is in place.
+     * Later stock and threshold changes are applied by {@link CarPartEntityListener}, which
+     * rebuilds the index instead after a transaction that changed too many parts to apply one by one.
+     */
+    @EventListener(SampleDataReadyEvent.class)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void rebuildIndex() {
+        long start = System.nanoTime();
+        lowStockIndex.rebuild(this::loadMargins);
+        log.info("Indexed stock levels of {} car parts in {} ms", lowStockIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Map<Long, Long> loadMargins() {
+        Map<Long, Long> margins = new HashMap<>();
+        for (StockLevel level : carPartRepository.findStockLevels()) {
+            margins.put(level.getId(), (long) level.getStock() - level.getReorderThreshold());
+        }
+        return margins;
+    }
+
+    /**
+     * @return parts at or below their reorder threshold, largest shortfall first
+     */
+    public List<CarPartDto> getLowStockParts(int limit) {
+        var ids = lowStockIndex.findAtOrBelowThreshold(Math.max(1, Math.min(limit, MAX_LIMIT)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CarPart> partsById = carPartRepository.findAllWithSupplierByIdIn(ids).stream()
+                .collect(Collectors.toMap(CarPart::getId, Function.identity()));
+        var result = ids.stream()
+                .map(partsById::get)
+                .filter(Objects::nonNull)
+                .map(carPartMapper::modelToDtoWithSupplier)
+                .toList();
+        log.debug("Found {} car parts at or below their reorder threshold", result.size());
+        return result;
+    }
+}
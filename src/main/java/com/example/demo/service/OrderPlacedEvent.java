@@ -0,0 +1,13 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Published by {@link OrderService#placeOrder} for listeners that should only see committed orders.
+ */
+public record OrderPlacedEvent(Long orderId, LocalDate date, List<Line> lines) {
+
+    public record Line(Long carPartId, Long supplierId, int quantity, double price) {
+    }
+}
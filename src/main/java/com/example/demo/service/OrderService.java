@@ -3,14 +3,20 @@ package com.example.demo.service;
 import com.example.demo.dto.OrderDto;
 import com.example.demo.dto.OrderItemDto;
 import com.example.demo.dto.OrderResponse;
+import com.example.demo.dto.UserOrderSummaryDto;
 import com.example.demo.model.Order;
 import com.example.demo.model.OrderItem;
 import com.example.demo.repository.CarPartRepository;
 import com.example.demo.repository.OrderRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.utils.AppMetrics;
+import com.example.demo.utils.RequestTimings;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -19,21 +25,32 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final String STAGE_DESCRIPTION = "Time spent in each stage of order placement";
+    private static final Timer LOAD_USER_STAGE = AppMetrics.timer("app.order.place", STAGE_DESCRIPTION, "stage", "load-user");
+    private static final Timer RESERVE_STOCK_STAGE = AppMetrics.timer("app.order.place", STAGE_DESCRIPTION, "stage", "reserve-stock");
+    private static final Timer SAVE_STAGE = AppMetrics.timer("app.order.place", STAGE_DESCRIPTION, "stage", "save");
+    private static final Timer AGGREGATES_STAGE = AppMetrics.timer("app.order.place", STAGE_DESCRIPTION, "stage", "aggregates");
+
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final CarPartRepository carPartRepository;
     private final CarPartService carPartService;
+    private final UserOrderSummaryService userOrderSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public OrderResponse placeOrder(String username, OrderDto orderRequest) {
+        Timer.Sample stage = Timer.start();
         var matchingUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        stage.stop(LOAD_USER_STAGE);
 
         Order order = Order.builder()
                 .date(LocalDate.now())
                 .user(matchingUser)
                 .build();
 
-
+        stage = Timer.start();
         List<OrderItem> items = orderRequest.getItems().stream()
                 .map(orderItemDto -> {
                     var carPart = carPartService.getById(orderItemDto.getCarPartId());
@@ -53,9 +70,23 @@ public class OrderService {
 
         order.setItems(items);
         order.calculateTotal();
+        stage.stop(RESERVE_STOCK_STAGE);
 
-
+        stage = Timer.start();
         var savedOrder = orderRepository.save(order);
+        stage.stop(SAVE_STAGE);
+
+        stage = Timer.start();
+        userOrderSummaryService.recordOrder(matchingUser.getId(), savedOrder.getTotal(), savedOrder.getDate());
+        eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder.getId(), savedOrder.getDate(),
+                savedOrder.getItems().stream()
+                        .map(item -> new OrderPlacedEvent.Line(
+                                item.getCarPart().getId(),
+                                item.getCarPart().getSupplier() != null ? item.getCarPart().getSupplier().getId() : null,
+                                item.getQuantity(),
+                                item.getCarPart().getPrice()))
+                        .toList()));
+        stage.stop(AGGREGATES_STAGE);
 
         return OrderResponse.builder()
                 .id(savedOrder.getId())
@@ -71,10 +102,19 @@ public class OrderService {
                 .build();
     }
 
+    public UserOrderSummaryDto getOrderSummary(String username) {
+        var matchingUser = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        return userOrderSummaryService.getSummary(matchingUser.getId());
+    }
+
+    @Transactional(readOnly = true)
     public List<OrderResponse> getOrdersByUsername(String username) {
         var matchingUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
-        return orderRepository.findByUser(matchingUser).stream()
+        var orders = orderRepository.findByUser(matchingUser);
+        long mappingStart = RequestTimings.start();
+        var result = orders.stream()
                 .map(order ->
                         OrderResponse.builder()
                                 .id(order.getId())
@@ -91,9 +131,15 @@ public class OrderService {
                                 )
                                 .build()
                 ).toList();
+        RequestTimings.stop(RequestTimings.Phase.MAPPING, mappingStart);
+        return result;
     }
+
+    @Transactional(readOnly = true)
     public List<OrderResponse> getAllOrders() {
-        return orderRepository.findAll().stream()
+        var orders = orderRepository.findAll();
+        long mappingStart = RequestTimings.start();
+        var result = orders.stream()
                 .map(order ->
                         OrderResponse.builder()
                                 .id(order.getId())
@@ -110,5 +156,7 @@ public class OrderService {
                                 ).toList())
                                 .build()
                 ).toList();
+        RequestTimings.stop(RequestTimings.Phase.MAPPING, mappingStart);
+        return result;
     }
 }
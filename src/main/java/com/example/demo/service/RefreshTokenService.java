@@ -0,0 +1,127 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.AuthResponseDto;
+import com.example.demo.exception.InvalidRefreshTokenException;
+import com.example.demo.model.RefreshToken;
+import com.example.demo.model.User;
+import com.example.demo.repository.RefreshTokenRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.JwtUtil;
+import com.example.demo.utils.AppMetrics;
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens so clients can renew their short-lived access token without
+ * sending the password again.
+ *
+ * Tokens are 256 random bits, so a plain SHA-256 hash is enough to store them safely and, unlike
+ * BCrypt, can be looked up through a unique index. A refresh is that one lookup, a conditional
+ * update marking the token rotated, one insert for its successor and signing the access token.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final Counter REUSE_COUNTER = AppMetrics.counter("app.security.refresh.reuse",
+            "Rotated refresh tokens presented again; each revokes its token family");
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+
+    @Value("${jwt.refresh.expiration}")
+    private long expirationSeconds;
+
+    /**
+     * Starts a new token family for a user who just authenticated.
+     *
+     * @param username the authenticated user
+     * @return the refresh token to hand to the client
+     */
+    @Transactional
+    public String issue(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        return issue(user, UUID.randomUUID().toString(), Instant.now());
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token.
+     * A token that was already rotated revokes its whole family, so a stolen token stops working
+     * for both the thief and the client as soon as either uses it a second time.
+     *
+     * @param presentedToken the refresh token sent by the client
+     * @return new access and refresh token
+     * @throws InvalidRefreshTokenException if the token is unknown, expired or was already used
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public AuthResponseDto refresh(String presentedToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(presentedToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+        Instant now = Instant.now();
+        if (token.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("Refresh token expired");
+        }
+        if (token.getRotatedAt() != null || refreshTokenRepository.markRotated(token.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.deleteByFamily(token.getFamily());
+            REUSE_COUNTER.increment();
+            log.warn("Refresh token reuse for user {}, revoked {} tokens of its family", token.getUser().getUsername(), revoked);
+            throw new InvalidRefreshTokenException("Refresh token already used");
+        }
+
+        User user = token.getUser();
+        String refreshToken = issue(user, token.getFamily(), now);
+        String jwt = jwtUtil.generateToken(CustomUserDetailsService.toUserDetails(user));
+        return new AuthResponseDto(jwt, refreshToken);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval:PT1H}", initialDelayString = "${jwt.refresh.purge-interval:PT1H}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private String issue(User user, String family, Instant now) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .family(family)
+                .user(user)
+                .expiresAt(now.plusSeconds(expirationSeconds))
+                .build());
+        return token;
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
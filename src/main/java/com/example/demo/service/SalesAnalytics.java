@@ -0,0 +1,156 @@
+package com.example.demo.service;
+
+import com.example.demo.utils.LongDoubleHashMap;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory rolling sales aggregates for the last {@value #MAX_DAYS} days.
+ *
+ * Sales are kept in one bucket per day in a ring buffer indexed by epoch day; a bucket is reset
+ * when its slot is reused for a newer day, so old days fall out without a cleanup job. Each
+ * bucket holds revenue and quantity per part and revenue per supplier in primitive hash maps.
+ * Queries only merge the buckets of the requested window and never touch the database.
+ */
+@Component
+public class SalesAnalytics {
+
+    public static final int MAX_DAYS = 90;
+
+    public record Sale(LocalDate day, long carPartId, Long supplierId, long quantity, double revenue) {
+    }
+
+    public record PartSales(long carPartId, long quantity, double revenue) {
+    }
+
+    public record SupplierRevenue(LocalDate day, long supplierId, double revenue) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private DayBucket[] buckets = newBuckets();
+
+    /**
+     * Replaces all aggregates with the given sales.
+     */
+    public void rebuild(List<Sale> sales) {
+        DayBucket[] rebuilt = newBuckets();
+        sales.forEach(sale -> add(rebuilt, sale));
+        lock.writeLock().lock();
+        try {
+            buckets = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void record(Sale sale) {
+        lock.writeLock().lock();
+        try {
+            add(buckets, sale);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param today last day of the window
+     * @param days  window length in days, including today
+     * @return the parts with the highest revenue in the window, best first
+     */
+    public List<PartSales> topParts(LocalDate today, int days, int limit) {
+        LongDoubleHashMap revenue = new LongDoubleHashMap();
+        LongDoubleHashMap quantity = new LongDoubleHashMap();
+        lock.readLock().lock();
+        try {
+            forEachBucket(today, days, bucket -> {
+                bucket.partRevenue.forEach(revenue::addTo);
+                bucket.partQuantity.forEach(quantity::addTo);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<PartSales> parts = new ArrayList<>(revenue.size());
+        revenue.forEach((partId, partRevenue) ->
+                parts.add(new PartSales(partId, Math.round(quantity.get(partId)), partRevenue)));
+        parts.sort(Comparator.comparingDouble(PartSales::revenue).reversed()
+                .thenComparingLong(PartSales::carPartId));
+        return parts.size() > limit ? List.copyOf(parts.subList(0, limit)) : parts;
+    }
+
+    /**
+     * @param today last day of the window
+     * @param days  window length in days, including today
+     * @return revenue per supplier and day, ordered by day then supplier id
+     */
+    public List<SupplierRevenue> supplierRevenuePerDay(LocalDate today, int days) {
+        List<SupplierRevenue> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            forEachBucket(today, days, bucket -> {
+                LocalDate day = LocalDate.ofEpochDay(bucket.epochDay);
+                bucket.supplierRevenue.forEach((supplierId, revenue) ->
+                        result.add(new SupplierRevenue(day, supplierId, revenue)));
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(Comparator.comparing(SupplierRevenue::day).thenComparingLong(SupplierRevenue::supplierId));
+        return result;
+    }
+
+    private void forEachBucket(LocalDate today, int days, Consumer<DayBucket> action) {
+        long last = today.toEpochDay();
+        long first = last - Math.min(days, MAX_DAYS) + 1;
+        for (DayBucket bucket : buckets) {
+            if (bucket.epochDay >= first && bucket.epochDay <= last) {
+                action.accept(bucket);
+            }
+        }
+    }
+
+    private static void add(DayBucket[] buckets, Sale sale) {
+        long epochDay = sale.day().toEpochDay();
+        DayBucket bucket = buckets[(int) Math.floorMod(epochDay, (long) MAX_DAYS)];
+        if (bucket.epochDay > epochDay) {
+            // Older than the retained window.
+            return;
+        }
+        if (bucket.epochDay < epochDay) {
+            bucket.reset(epochDay);
+        }
+        bucket.partRevenue.addTo(sale.carPartId(), sale.revenue());
+        bucket.partQuantity.addTo(sale.carPartId(), sale.quantity());
+        if (sale.supplierId() != null) {
+            bucket.supplierRevenue.addTo(sale.supplierId(), sale.revenue());
+        }
+    }
+
+    private static DayBucket[] newBuckets() {
+        DayBucket[] buckets = new DayBucket[MAX_DAYS];
+        for (int i = 0; i < MAX_DAYS; i++) {
+            buckets[i] = new DayBucket();
+        }
+        return buckets;
+    }
+
+    private static final class DayBucket {
+        private long epochDay = Long.MIN_VALUE;
+        private final LongDoubleHashMap partRevenue = new LongDoubleHashMap();
+        private final LongDoubleHashMap partQuantity = new LongDoubleHashMap();
+        private final LongDoubleHashMap supplierRevenue = new LongDoubleHashMap();
+
+        private void reset(long epochDay) {
+            this.epochDay = epochDay;
+            partRevenue.clear();
+            partQuantity.clear();
+            supplierRevenue.clear();
+        }
+    }
+}
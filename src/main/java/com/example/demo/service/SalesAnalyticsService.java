@@ -0,0 +1,99 @@
+package com.example.demo.service;
+
+import com.example.demo.config.SampleDataReadyEvent;
+import com.example.demo.dto.PartSalesDto;
+import com.example.demo.dto.SupplierDailyRevenueDto;
+import com.example.demo.model.CarPart;
+import com.example.demo.model.Supplier;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.SupplierRepository;
+import com.example.demo.service.SalesAnalytics.PartSales;
+import com.example.demo.service.SalesAnalytics.Sale;
+import com.example.demo.service.SalesAnalytics.SupplierRevenue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sales analytics for admins, answered from {@link SalesAnalytics} instead of the orders table.
+ * The aggregates are rebuilt with one aggregate query at startup and kept current from
+ * {@link OrderPlacedEvent}s once the order's transaction has committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesAnalyticsService {
+
+    static final int MAX_LIMIT = 100;
+
+    private final SalesAnalytics salesAnalytics;
+    private final OrderRepository orderRepository;
+    private final CarPartRepository carPartRepository;
+    private final SupplierRepository supplierRepository;
+
+    @EventListener(SampleDataReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        LocalDate from = LocalDate.now().minusDays(SalesAnalytics.MAX_DAYS - 1);
+        List<Sale> sales = orderRepository.aggregateDailyPartSales(from).stream()
+                .map(row -> new Sale(row.getDay(), row.getCarPartId(), row.getSupplierId(),
+                        row.getQuantity(), row.getRevenue() != null ? row.getRevenue() : 0))
+                .toList();
+        salesAnalytics.rebuild(sales);
+        log.info("Rebuilt sales analytics from {} day/part rows in {} ms",
+                sales.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        for (OrderPlacedEvent.Line line : event.lines()) {
+            salesAnalytics.record(new Sale(event.date(), line.carPartId(), line.supplierId(),
+                    line.quantity(), line.quantity() * line.price()));
+        }
+    }
+
+    public List<PartSalesDto> getTopParts(int days, int limit) {
+        List<PartSales> top = salesAnalytics.topParts(LocalDate.now(), clampDays(days),
+                Math.max(1, Math.min(limit, MAX_LIMIT)));
+        Map<Long, CarPart> parts = carPartRepository.findAllById(top.stream().map(PartSales::carPartId).toList())
+                .stream()
+                .collect(Collectors.toMap(CarPart::getId, Function.identity()));
+        return top.stream()
+                .map(sales -> PartSalesDto.builder()
+                        .carPartId(sales.carPartId())
+                        .carPartName(parts.containsKey(sales.carPartId()) ? parts.get(sales.carPartId()).getName() : null)
+                        .quantity(sales.quantity())
+                        .revenue(sales.revenue())
+                        .build())
+                .toList();
+    }
+
+    public List<SupplierDailyRevenueDto> getSupplierRevenuePerDay(int days) {
+        List<SupplierRevenue> revenue = salesAnalytics.supplierRevenuePerDay(LocalDate.now(), clampDays(days));
+        Map<Long, String> names = supplierRepository.findAllById(
+                        revenue.stream().map(SupplierRevenue::supplierId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Supplier::getId, Supplier::getName));
+        return revenue.stream()
+                .map(row -> SupplierDailyRevenueDto.builder()
+                        .date(row.day())
+                        .supplierId(row.supplierId())
+                        .supplierName(names.get(row.supplierId()))
+                        .revenue(row.revenue())
+                        .build())
+                .toList();
+    }
+
+    private static int clampDays(int days) {
+        return Math.max(1, Math.min(days, SalesAnalytics.MAX_DAYS));
+    }
+}
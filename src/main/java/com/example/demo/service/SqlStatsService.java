@@ -0,0 +1,71 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.SqlStatementStatsDto;
+import com.example.demo.dto.SqlStatsDto;
+import com.example.demo.utils.SqlStatementStats;
+import com.example.demo.utils.SqlStatementStats.Snapshot;
+import com.example.demo.utils.SqlStatementStats.StatementStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Closes a {@link SqlStatementStats} window every app.sql.stats.interval, logs its most expensive
+ * statements and keeps it for the admin endpoint.
+ */
+@Slf4j
+@Service
+public class SqlStatsService {
+
+    private static final int LOGGED_STATEMENTS = 5;
+
+    private final SqlStatementStats sqlStatementStats;
+    private final int topStatements;
+    private volatile SqlStatsDto lastWindow;
+
+    public SqlStatsService(SqlStatementStats sqlStatementStats,
+                           @Value("${app.sql.stats.top:20}") int topStatements) {
+        this.sqlStatementStats = sqlStatementStats;
+        this.topStatements = topStatements;
+        Instant now = Instant.now();
+        this.lastWindow = new SqlStatsDto(now, now, 0, List.of());
+    }
+
+    @Scheduled(fixedDelayString = "${app.sql.stats.interval:PT1M}", initialDelayString = "${app.sql.stats.interval:PT1M}")
+    public void closeWindow() {
+        Snapshot snapshot = sqlStatementStats.drain(topStatements);
+        lastWindow = SqlStatsDto.builder()
+                .windowStart(snapshot.start())
+                .windowEnd(snapshot.end())
+                .executions(snapshot.executions())
+                .topStatements(snapshot.top().stream().map(SqlStatsService::toDto).toList())
+                .build();
+        if (snapshot.executions() > 0 && log.isInfoEnabled()) {
+            log.info("{} SQL executions since {}, most expensive: {}", snapshot.executions(), snapshot.start(),
+                    lastWindow.getTopStatements().stream().limit(LOGGED_STATEMENTS)
+                            .map(s -> String.format("%.1f ms in %d x %s", s.getTotalMs(), s.getCount(), s.getSql()))
+                            .toList());
+        }
+    }
+
+    /**
+     * @return statistics of the last completed window
+     */
+    public SqlStatsDto getLastWindow() {
+        return lastWindow;
+    }
+
+    private static SqlStatementStatsDto toDto(StatementStats stats) {
+        return SqlStatementStatsDto.builder()
+                .sql(stats.sql())
+                .count(stats.count())
+                .totalMs(stats.totalNanos() / 1e6)
+                .meanMs(stats.count() == 0 ? 0 : stats.totalNanos() / 1e6 / stats.count())
+                .maxMs(stats.maxNanos() / 1e6)
+                .build();
+    }
+}
@@ -1,16 +1,28 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.dto.PageDto;
 import com.example.demo.dto.SupplierDto;
 import com.example.demo.exception.ResourceAlreadyExistsException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.model.Supplier;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.CarPartRepository.SupplierPartCount;
 import com.example.demo.repository.SupplierRepository;
+import com.example.demo.utils.CarPartMapperM;
 import com.example.demo.utils.SupplierMapperM;
+import com.example.demo.utils.AppMetrics;
+import com.example.demo.utils.LogSummary;
+import com.example.demo.utils.RequestTimings;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -18,18 +30,69 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SupplierService {
 
+    private static final Timer LIST_TIMER = AppMetrics.timer("app.catalog.list",
+            "Time spent listing the catalogue", "operation", "suppliers");
+    private static final Timer LIST_WITH_PARTS_TIMER = AppMetrics.timer("app.catalog.list",
+            "Time spent listing the catalogue", "operation", "suppliers-with-parts");
+
     private final SupplierRepository supplierRepository;
     private final SupplierMapperM supplierMapper;
+    private final CarPartRepository carPartRepository;
+    private final CarPartMapperM carPartMapper;
 
-    public List<SupplierDto> getAllSuppliers() {
-        log.debug("Fetching all suppliers");
-        var result = supplierRepository.findAll().stream()
-                .map(supplierMapper::modelToDto)
-                .collect(Collectors.toList());
+    /**
+     * Lists suppliers with their part counts. Parts are only included on request and are then
+     * loaded for all returned suppliers in a single query instead of one lazy load per supplier.
+     *
+     * @param includeParts whether to attach each supplier's car parts
+     * @return list of suppliers
+     */
+    @Transactional(readOnly = true)
+    public List<SupplierDto> getAllSuppliers(boolean includeParts) {
+        log.debug("Fetching all suppliers, includeParts: {}", includeParts);
+        Timer.Sample sample = Timer.start();
+        var suppliers = supplierRepository.findAll();
+        Map<Long, Long> partCounts = carPartRepository.countPartsPerSupplier().stream()
+                .collect(Collectors.toMap(SupplierPartCount::getSupplierId, SupplierPartCount::getPartCount));
+        Map<Long, List<CarPartDto>> partsBySupplier = includeParts && !suppliers.isEmpty()
+                ? loadPartsBySupplier(suppliers.stream().map(Supplier::getId).toList())
+                : Map.of();
+
+        long mappingStart = RequestTimings.start();
+        var result = suppliers.stream()
+                .map(supplier -> {
+                    var dto = supplierMapper.modelToSummaryDto(supplier);
+                    dto.setPartCount(partCounts.getOrDefault(supplier.getId(), 0L));
+                    if (includeParts) {
+                        dto.setCarParts(partsBySupplier.getOrDefault(supplier.getId(), List.of()));
+                    }
+                    return dto;
+                })
+                .toList();
+        RequestTimings.stop(RequestTimings.Phase.MAPPING, mappingStart);
+        sample.stop(includeParts ? LIST_WITH_PARTS_TIMER : LIST_TIMER);
         log.debug("Found {} suppliers", result.size());
         return result;
     }
 
+    public PageDto<CarPartDto> getSupplierParts(Long supplierId, Pageable pageable) {
+        log.debug("Fetching parts page {} for supplier id: {}", pageable.getPageNumber(), supplierId);
+        if (!supplierRepository.existsById(supplierId)) {
+            log.error("Supplier not found with id: {}", supplierId);
+            throw new ResourceNotFoundException("Supplier", supplierId);
+        }
+        return PageDto.from(carPartRepository.findBySupplierId(supplierId, pageable)
+                .map(carPartMapper::modelToDtoWithoutSupplier));
+    }
+
+    private Map<Long, List<CarPartDto>> loadPartsBySupplier(List<Long> supplierIds) {
+        return carPartRepository.findAllBySupplierIds(supplierIds).stream()
+                .collect(Collectors.groupingBy(
+                        carPart -> carPart.getSupplier().getId(),
+                        Collectors.mapping(carPartMapper::modelToDtoWithoutSupplier, Collectors.toList())));
+    }
+
+    @Transactional(readOnly = true)
     public SupplierDto getSupplierById(Long id) {
         log.debug("Fetching supplier with id: {}", id);
         var result = supplierRepository.findById(id)
@@ -38,7 +101,7 @@ public class SupplierService {
                     log.error("Supplier not found with id: {}", id);
                     return new ResourceNotFoundException("Supplier", id);
                 });
-        log.debug("Found supplier: {}", result);
+        log.debug("Found supplier: {}", LogSummary.of(result));
         return result;
     }
 
@@ -0,0 +1,127 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.OrderSummaryRebuildResultDto;
+import com.example.demo.dto.UserOrderSummaryDto;
+import com.example.demo.model.UserOrderSummary;
+import com.example.demo.repository.UserOrderSummaryRepository;
+import com.example.demo.repository.UserOrderSummaryRepository.OrderTotals;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Maintains the per-user order aggregates.
+ *
+ * Order placement adds to the aggregate row with a single atomic update in the order's own
+ * transaction, so the row always agrees with the committed orders. The rebuild recomputes all
+ * rows from the orders table and is meant for backfilling existing data; it splits the users
+ * into chunks that are aggregated in parallel, each chunk in its own transaction.
+ *
+ * Both first lock the user's row in the users table until their transaction ends. Concurrent
+ * orders of a user are therefore applied one after the other, and a rebuild chunk either sees an
+ * order committed together with its increment or runs before the increment is applied.
+ */
+@Slf4j
+@Service
+public class UserOrderSummaryService {
+
+    static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final UserOrderSummaryRepository summaryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildThreads;
+
+    public UserOrderSummaryService(UserOrderSummaryRepository summaryRepository,
+                                   EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.order-summaries.rebuild-threads:0}") int rebuildThreads) {
+        this.summaryRepository = summaryRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildThreads = rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Adds an order to the user's aggregate. Must run in the transaction that stores the order.
+     * The first order of a user inserts the row; a concurrent order of the same user waits for the
+     * user lock and then finds that row committed.
+     */
+    @Transactional
+    public void recordOrder(Long userId, double total, LocalDate date) {
+        summaryRepository.lockUsers(List.of(userId));
+        if (summaryRepository.addOrder(userId, total, date) == 0) {
+            entityManager.persist(UserOrderSummary.builder()
+                    .userId(userId)
+                    .orderCount(1)
+                    .totalSpent(total)
+                    .lastOrderDate(date)
+                    .build());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public UserOrderSummaryDto getSummary(Long userId) {
+        return summaryRepository.findById(userId)
+                .map(summary -> UserOrderSummaryDto.builder()
+                        .orderCount(summary.getOrderCount())
+                        .totalSpent(summary.getTotalSpent())
+                        .lastOrderDate(summary.getLastOrderDate())
+                        .build())
+                .orElseGet(() -> UserOrderSummaryDto.builder().build());
+    }
+
+    /**
+     * Recomputes every aggregate row from the orders table.
+     */
+    public OrderSummaryRebuildResultDto rebuild() {
+        long start = System.nanoTime();
+        List<Long> userIds = summaryRepository.findUserIdsWithOrders();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += REBUILD_CHUNK_SIZE) {
+            chunks.add(userIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, userIds.size())));
+        }
+        log.info("Rebuilding order summaries for {} users in {} chunks", userIds.size(), chunks.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(rebuildThreads, chunks.size())));
+        try {
+            CompletableFuture.allOf(chunks.stream()
+                            .map(chunk -> CompletableFuture.runAsync(() -> rebuildChunk(chunk), executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+        transactionTemplate.executeWithoutResult(status -> summaryRepository.deleteWithoutOrders());
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Rebuilt order summaries for {} users in {} ms", userIds.size(), durationMs);
+        return new OrderSummaryRebuildResultDto(userIds.size(), chunks.size(), durationMs);
+    }
+
+    private void rebuildChunk(List<Long> userIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            summaryRepository.lockUsers(userIds);
+            summaryRepository.deleteByUserIds(userIds);
+            for (OrderTotals totals : summaryRepository.aggregateOrdersByUserIds(userIds)) {
+                entityManager.persist(UserOrderSummary.builder()
+                        .userId(totals.getUserId())
+                        .orderCount(totals.getOrderCount())
+                        .totalSpent(totals.getTotalSpent() != null ? totals.getTotalSpent() : 0)
+                        .lastOrderDate(totals.getLastOrderDate())
+                        .build());
+            }
+        });
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.PageDto;
 import com.example.demo.dto.RegisterRequestDto;
 import com.example.demo.dto.UserDto;
+import com.example.demo.exception.BadRequestException;
 import com.example.demo.exception.RegistrationException;
 import com.example.demo.exception.ResourceAlreadyExistsException;
 import com.example.demo.model.Role;
@@ -9,16 +11,23 @@ import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.utils.UserMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Service class handling user-related business logic.
  * Provides functionality for user management operations including:
- * - User retrieval
+ * - User retrieval, including the paginated admin listing
+ * - User creation by an administrator
  * - User deletion
  * - User profile updates
  * 
@@ -30,6 +39,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "firstName", "lastName", "email");
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
@@ -41,6 +52,7 @@ public class UserService {
      * @return UserDto containing the user's information
      * @throws UsernameNotFoundException if no user is found with the given username
      */
+    @Transactional(readOnly = true)
     public UserDto getUserByUsername(String username) {
         var matchingUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
@@ -78,6 +90,7 @@ public class UserService {
         return userMapper.modelToDto(savedUser);
     }
 
+    @Transactional(readOnly = true)
     public List<UserDto> getAllUsers() {
         var users = userRepository.findAll();
         return users.stream()
@@ -85,7 +98,38 @@ public class UserService {
                 .toList();
     }
 
-    public List<UserDto> addUser(RegisterRequestDto newUser) {
+    /**
+     * Lists users one page at a time, optionally filtered.
+     * Rows are projected straight into DTOs, so the cost of a page does not depend on the number
+     * of users and no password hash is ever read.
+     *
+     * @param name prefix of the first or last name in any case, null for all
+     * @param emailPrefix prefix of the email address, null for all
+     * @param role role the users must have, null for all
+     * @param pageable page, size and sort by id, firstName, lastName or email
+     * @return the requested page of users
+     * @throws BadRequestException if sorted by any other property
+     */
+    @Transactional(readOnly = true)
+    public PageDto<UserDto> getUsers(String name, String emailPrefix, Role role, Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BadRequestException("Users cannot be sorted by " + order.getProperty());
+            }
+        }
+        return PageDto.from(userRepository.findUserPage(prefixPattern(name), prefixPattern(emailPrefix),
+                roleSets(role), pageable));
+    }
+
+    /**
+     * Creates a user with the USER role.
+     *
+     * @param newUser registration data of the new user
+     * @return UserDto of the created user
+     * @throws RegistrationException if the username is taken
+     * @throws ResourceAlreadyExistsException if the email is taken
+     */
+    public UserDto addUser(RegisterRequestDto newUser) {
         validateEmailAndUsername(newUser);
         var user = User.builder()
                 .username(newUser.getUsername())
@@ -93,12 +137,36 @@ public class UserService {
                 .firstName(newUser.getFirstName())
                 .lastName(newUser.getLastName())
                 .email(newUser.getEmail())
-                .roles(List.of(Role.USER))
+                .roles(EnumSet.of(Role.USER))
                 .build();
-        userRepository.save(user);
-        return userRepository.findAll().stream()
-                .map(userMapper::modelToDto)
-                .toList();
+        return userMapper.modelToDto(userRepository.save(user));
+    }
+
+    /**
+     * LIKE pattern matching values starting with the prefix, with wildcards in it escaped.
+     */
+    static String prefixPattern(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        return prefix.strip()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_") + "%";
+    }
+
+    /**
+     * Every stored role set that includes the role, or all of them without a role.
+     */
+    private static List<Set<Role>> roleSets(Role role) {
+        int allBits = Role.toMask(EnumSet.allOf(Role.class));
+        List<Set<Role>> roleSets = new ArrayList<>();
+        for (int mask = 0; mask <= allBits; mask++) {
+            if (role == null || (mask & role.bit()) != 0) {
+                roleSets.add(Role.fromMask(mask));
+            }
+        }
+        return roleSets;
     }
 
     private void validateEmailAndUsername(RegisterRequestDto newUser) {
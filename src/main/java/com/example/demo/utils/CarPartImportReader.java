@@ -0,0 +1,230 @@
+package com.example.demo.utils;
+
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.exception.ImportValidationException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams car part rows out of a bulk upload one at a time, so an upload of any size is never
+ * held in memory. Rows that cannot be parsed are returned with an error instead of failing the
+ * whole upload; a structurally broken upload (missing header, malformed JSON) throws
+ * {@link ImportValidationException}.
+ *
+ * Supported formats:
+ * - text/csv with a header row containing name, price and stock columns (any order)
+ * - application/json holding an array of {"name", "price", "stock"} objects
+ */
+public abstract class CarPartImportReader implements Closeable {
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    /**
+     * A single upload row. Exactly one of part and error is set.
+     *
+     * @param number line number for CSV, element position for JSON (1-based)
+     */
+    public record Row(long number, CarPartDto part, String error) {
+    }
+
+    public static CarPartImportReader open(InputStream input, MediaType contentType, ObjectMapper objectMapper)
+            throws IOException {
+        if (contentType != null && TEXT_CSV.isCompatibleWith(contentType)) {
+            return new Csv(input);
+        }
+        if (contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return new Json(input, objectMapper);
+        }
+        throw new ImportValidationException("Unsupported upload type: " + contentType);
+    }
+
+    /**
+     * @return the next row, or null once the upload is exhausted
+     */
+    public abstract Row next() throws IOException;
+
+    private static final class Csv extends CarPartImportReader {
+
+        private final BufferedReader reader;
+        private final int nameColumn;
+        private final int priceColumn;
+        private final int stockColumn;
+        private final int columnCount;
+        private long lineNumber = 1;
+
+        private Csv(InputStream input) throws IOException {
+            reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String header = reader.readLine();
+            if (header == null) {
+                throw new ImportValidationException("CSV upload is empty");
+            }
+            if (header.startsWith("\uFEFF")) {
+                header = header.substring(1);
+            }
+            List<String> columns = split(header).stream()
+                    .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                    .toList();
+            nameColumn = columns.indexOf("name");
+            priceColumn = columns.indexOf("price");
+            stockColumn = columns.indexOf("stock");
+            if (nameColumn < 0 || priceColumn < 0 || stockColumn < 0) {
+                throw new ImportValidationException("CSV header must contain name, price and stock columns");
+            }
+            columnCount = Math.max(nameColumn, Math.max(priceColumn, stockColumn)) + 1;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            List<String> values = split(line);
+            if (values.size() < columnCount) {
+                return new Row(lineNumber, null, "Expected " + columnCount + " columns but found " + values.size());
+            }
+            CarPartDto part = CarPartDto.builder().name(values.get(nameColumn).trim()).build();
+            String price = values.get(priceColumn).trim();
+            try {
+                part.setPrice(Double.valueOf(price));
+            } catch (NumberFormatException e) {
+                return new Row(lineNumber, null, "Invalid price: " + price);
+            }
+            String stock = values.get(stockColumn).trim();
+            try {
+                part.setStock(Integer.valueOf(stock));
+            } catch (NumberFormatException e) {
+                return new Row(lineNumber, null, "Invalid stock: " + stock);
+            }
+            return new Row(lineNumber, part, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        /**
+         * Splits a CSV line, honouring double-quoted values and escaped ("") quotes.
+         * Quoted values spanning several lines are not supported.
+         */
+        static List<String> split(String line) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        current.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            values.add(current.toString());
+            return values;
+        }
+    }
+
+    private static final class Json extends CarPartImportReader {
+
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+        private long elementNumber;
+
+        private Json(InputStream input, ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(input);
+            if (nextToken() != JsonToken.START_ARRAY) {
+                throw new ImportValidationException("JSON upload must be an array of car parts");
+            }
+        }
+
+        @Override
+        public Row next() throws IOException {
+            JsonToken token = nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            long number = ++elementNumber;
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return new Row(number, null, "Expected a JSON object");
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(parser);
+            } catch (JsonProcessingException e) {
+                throw malformed(e);
+            }
+
+            JsonNode name = node.get("name");
+            CarPartDto part = CarPartDto.builder()
+                    .name(name != null && name.isTextual() ? name.asText() : null)
+                    .build();
+            JsonNode price = node.get("price");
+            if (price != null && !price.isNull()) {
+                if (!price.isNumber()) {
+                    return new Row(number, null, "Invalid price: " + price);
+                }
+                part.setPrice(price.doubleValue());
+            }
+            JsonNode stock = node.get("stock");
+            if (stock != null && !stock.isNull()) {
+                if (!stock.isIntegralNumber() || !stock.canConvertToInt()) {
+                    return new Row(number, null, "Invalid stock: " + stock);
+                }
+                part.setStock(stock.intValue());
+            }
+            return new Row(number, part, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+
+        private JsonToken nextToken() throws IOException {
+            try {
+                return parser.nextToken();
+            } catch (JsonProcessingException e) {
+                throw malformed(e);
+            }
+        }
+
+        private ImportValidationException malformed(JsonProcessingException e) {
+            return new ImportValidationException(
+                    "Malformed JSON after element " + elementNumber + ": " + e.getOriginalMessage());
+        }
+    }
+}
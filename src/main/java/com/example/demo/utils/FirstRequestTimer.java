@@ -0,0 +1,55 @@
+package com.example.demo.utils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports time-to-first-request: how long after JVM start the first request was answered.
+ * This is what matters when instances are added during a traffic spike, and it includes work
+ * that context startup metrics miss, such as lazy initialization on the first request.
+ * After the first request the filter costs one volatile read.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private volatile long timeToFirstRequestMs = -1;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (recorded.get()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (recorded.compareAndSet(false, true)) {
+                timeToFirstRequestMs = ManagementFactory.getRuntimeMXBean().getUptime();
+                log.info("First request ({} {}) answered {} ms after JVM start",
+                        request.getMethod(), request.getRequestURI(), timeToFirstRequestMs);
+            }
+        }
+    }
+
+    /**
+     * @return milliseconds from JVM start until the first request was answered, -1 before that
+     */
+    public long getTimeToFirstRequestMs() {
+        return timeToFirstRequestMs;
+    }
+}
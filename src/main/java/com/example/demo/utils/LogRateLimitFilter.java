@@ -0,0 +1,75 @@
+package com.example.demo.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter limiting INFO and DEBUG events to maxEventsPerSecond per logger.
+ * Beyond the limit only a sampleRate share of events passes; WARN and ERROR always pass.
+ *
+ * Turbo filters run before the event is created, so a denied event costs neither message
+ * formatting nor argument rendering. Level checks such as {@code isDebugEnabled()} are not
+ * counted against the limit. Suppressed events are counted in app.logging.suppressed.
+ */
+public class LogRateLimitFilter extends TurboFilter {
+
+    private static final Counter SUPPRESSED = AppMetrics.counter("app.logging.suppressed",
+            "Log events dropped by the per-logger rate limit");
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private int maxEventsPerSecond = 100;
+    private double sampleRate;
+
+    public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (!isStarted() || format == null || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+        if (window.tryAcquire(System.currentTimeMillis() / 1_000, maxEventsPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return FilterReply.NEUTRAL;
+        }
+        SUPPRESSED.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Fixed one-second window. Resetting is racy by design: a few events more or less around a
+     * second boundary do not matter for log volume.
+     */
+    private static final class Window {
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicInteger events = new AtomicInteger();
+
+        private boolean tryAcquire(long now, int max) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                events.set(0);
+            }
+            return events.incrementAndGet() <= max;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.utils;
+
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.dto.OrderResponse;
+import com.example.demo.dto.SupplierDto;
+import com.example.demo.dto.UserDto;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Log argument that renders a DTO as its id and collection sizes instead of the full Lombok
+ * toString. Rendering only happens when the logger actually formats the message, so
+ * {@code log.debug("Found supplier: {}", LogSummary.of(supplier))} costs a single small
+ * allocation when DEBUG is off, and never walks nested part lists or leaks personal data.
+ */
+public final class LogSummary {
+
+    private final Object value;
+
+    private LogSummary(Object value) {
+        this.value = value;
+    }
+
+    public static LogSummary of(Object value) {
+        return new LogSummary(value);
+    }
+
+    @Override
+    public String toString() {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof SupplierDto supplier) {
+            return "SupplierDto(id=" + supplier.getId() + ", carParts=" + size(supplier.getCarParts()) + ")";
+        }
+        if (value instanceof CarPartDto carPart) {
+            return "CarPartDto(id=" + carPart.getId() + ")";
+        }
+        if (value instanceof OrderResponse order) {
+            return "OrderResponse(id=" + order.getId() + ", items=" + size(order.getItems()) + ")";
+        }
+        if (value instanceof UserDto user) {
+            return "UserDto(id=" + user.getId() + ")";
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "(size=" + collection.size() + ")";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "(size=" + map.size() + ")";
+        }
+        if (value instanceof Number || value instanceof CharSequence || value instanceof Enum<?>) {
+            return value.toString();
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private static String size(Collection<?> collection) {
+        return collection == null ? "null" : Integer.toString(collection.size());
+    }
+}
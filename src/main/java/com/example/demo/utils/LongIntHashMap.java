@@ -0,0 +1,152 @@
+package com.example.demo.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from long keys to int values without boxing.
+ * Keys are ids or packed codes, so {@link Long#MIN_VALUE} is reserved as the empty-slot marker.
+ * Not thread-safe.
+ */
+public final class LongIntHashMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+
+    private final int missingValue;
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * @param missingValue returned by {@link #get} and {@link #remove} for absent keys
+     */
+    public LongIntHashMap(int missingValue) {
+        this(missingValue, MIN_CAPACITY);
+    }
+
+    public LongIntHashMap(int missingValue, int expectedSize) {
+        this.missingValue = missingValue;
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key " + key + " is reserved");
+        }
+        int slot = slotOf(key);
+        values[slot] = value;
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 4 > keys.length * 3) {
+                resize(keys.length * 2);
+            }
+        }
+    }
+
+    /**
+     * @return the value of key, or the missing value when absent
+     */
+    public int get(long key) {
+        if (key == EMPTY) {
+            return missingValue;
+        }
+        int slot = slotOf(key);
+        return keys[slot] == EMPTY ? missingValue : values[slot];
+    }
+
+    /**
+     * @return the removed value, or the missing value when absent
+     */
+    public int remove(long key) {
+        if (key == EMPTY) {
+            return missingValue;
+        }
+        int slot = slotOf(key);
+        if (keys[slot] == EMPTY) {
+            return missingValue;
+        }
+        int removed = values[slot];
+        closeGap(slot);
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+        }
+    }
+
+    /**
+     * Shifts later entries of the probe sequence back into the freed slot, so lookups never
+     * stop early at a hole.
+     */
+    private void closeGap(int gap) {
+        int mask = keys.length - 1;
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (keys[slot] == EMPTY) {
+                break;
+            }
+            int home = mix(keys[slot]) & mask;
+            // Move the entry unless its home lies cyclically between the gap and its slot.
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        keys[gap] = EMPTY;
+    }
+
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3 < expectedSize * 4) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-key token bucket, implemented as the generic cell rate algorithm: each key keeps a single
+ * "theoretical arrival time" which a request advances by one emission interval with a CAS, so
+ * there is no lock and no refill bookkeeping. A key allows a burst of {@code burst} requests and
+ * then one request per emission interval.
+ *
+ * The key map is bounded. A key whose bucket is full again carries no information and is evicted
+ * by a sweep that runs at most once a minute, or once a second while the map is full. Keys that
+ * arrive while the map is still full share one overflow bucket, so a flood of distinct keys is
+ * limited as a whole instead of growing memory. Eviction races with a concurrent request on the
+ * same key can at most grant that request one extra token.
+ */
+public final class RateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = 60_000_000_000L;
+    private static final long FULL_SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private final Map<String, AtomicLong> arrivalTimes = new ConcurrentHashMap<>();
+    private final AtomicLong overflow;
+    private final AtomicLong lastSweep;
+
+    /**
+     * @param burst     requests allowed at once by a key that has been idle
+     * @param perMinute sustained requests per minute and key
+     * @param maxKeys   keys tracked individually before new keys share the overflow bucket
+     */
+    public RateLimiter(int burst, double perMinute, int maxKeys) {
+        this(burst, perMinute, maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(int burst, double perMinute, int maxKeys, LongSupplier clock) {
+        if (burst < 1 || perMinute <= 0 || maxKeys < 1) {
+            throw new IllegalArgumentException("Burst, rate and key limit must be positive");
+        }
+        this.emissionIntervalNanos = (long) (60_000_000_000L / perMinute);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+        long now = clock.getAsLong();
+        this.overflow = new AtomicLong(now);
+        this.lastSweep = new AtomicLong(now);
+    }
+
+    /**
+     * Takes one token for the key if available.
+     *
+     * @return 0 if the request is allowed, otherwise the nanoseconds until it would be
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        AtomicLong arrivalTime = arrivalTimes.get(key);
+        if (arrivalTime == null) {
+            arrivalTime = register(key, now);
+        }
+        while (true) {
+            long current = arrivalTime.get();
+            long base = current - now > 0 ? current : now;
+            long wait = base - burstToleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrivalTime.compareAndSet(current, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return number of individually tracked keys
+     */
+    public int size() {
+        return arrivalTimes.size();
+    }
+
+    private AtomicLong register(String key, long now) {
+        boolean full = arrivalTimes.size() >= maxKeys;
+        long previousSweep = lastSweep.get();
+        long interval = full ? FULL_SWEEP_INTERVAL_NANOS : SWEEP_INTERVAL_NANOS;
+        if (now - previousSweep >= interval && lastSweep.compareAndSet(previousSweep, now)) {
+            arrivalTimes.values().removeIf(arrivalTime -> arrivalTime.get() - now <= 0);
+            full = arrivalTimes.size() >= maxKeys;
+        }
+        return full ? overflow : arrivalTimes.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+}
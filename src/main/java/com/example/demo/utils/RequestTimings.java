@@ -0,0 +1,159 @@
+package com.example.demo.utils;
+
+import java.util.Arrays;
+
+/**
+ * Per-request time breakdown reported in the Server-Timing response header.
+ *
+ * Each thread reuses one holder, so recording a request allocates nothing beyond the header
+ * string. Instrumented code calls the static methods unconditionally: they are no-ops unless
+ * {@link ServerTimingFilter} started recording for the current request. Phases may overlap,
+ * e.g. the user lookup done during authentication also counts as database time.
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        AUTH("auth"),
+        DB("db"),
+        MAPPING("mapping"),
+        SERIALIZATION("serialization");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTimings> CURRENT = ThreadLocal.withInitial(RequestTimings::new);
+
+    private final long[] nanos = new long[PHASES.length];
+    private final StringBuilder text = new StringBuilder(128);
+    private boolean active;
+    private long requestStart;
+    private long statementStart;
+    private long serializationStart;
+    private int statements;
+
+    private RequestTimings() {
+    }
+
+    /**
+     * Starts recording for the current thread, discarding what a previous request left behind.
+     */
+    static RequestTimings begin() {
+        RequestTimings timings = CURRENT.get();
+        Arrays.fill(timings.nanos, 0L);
+        timings.statements = 0;
+        timings.statementStart = 0;
+        timings.serializationStart = 0;
+        timings.requestStart = System.nanoTime();
+        timings.active = true;
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.get().active = false;
+    }
+
+    /**
+     * @return the current time to pass to {@link #stop}, or 0 when nothing is being recorded
+     */
+    public static long start() {
+        return CURRENT.get().active ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Adds the time elapsed since {@link #start()} to a phase.
+     */
+    public static void stop(Phase phase, long start) {
+        if (start != 0L) {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    public static void record(Phase phase, long elapsedNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.nanos[phase.ordinal()] += elapsedNanos;
+        }
+    }
+
+    static void statementStarted() {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.statementStart = System.nanoTime();
+        }
+    }
+
+    static void statementFinished() {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active && timings.statementStart != 0L) {
+            timings.nanos[Phase.DB.ordinal()] += System.nanoTime() - timings.statementStart;
+            timings.statementStart = 0L;
+            timings.statements++;
+        }
+    }
+
+    static void serializationStarted() {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active && timings.serializationStart == 0L) {
+            timings.serializationStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Adds the serialization time so far if a response body is being written.
+     *
+     * @param finished whether the body is complete; otherwise timing continues from now
+     */
+    void serializationCheckpoint(boolean finished) {
+        if (serializationStart != 0L) {
+            long now = System.nanoTime();
+            nanos[Phase.SERIALIZATION.ordinal()] += now - serializationStart;
+            serializationStart = finished ? 0L : now;
+        }
+    }
+
+    long totalNanos() {
+        return System.nanoTime() - requestStart;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    /**
+     * @return the breakdown in Server-Timing syntax, durations in milliseconds
+     */
+    String toHeaderValue() {
+        text.setLength(0);
+        for (Phase phase : PHASES) {
+            long phaseNanos = nanos[phase.ordinal()];
+            if (phaseNanos == 0L && phase != Phase.DB) {
+                continue;
+            }
+            appendMetric(phase.metricName, phaseNanos);
+            if (phase == Phase.DB) {
+                text.append(";desc=\"").append(statements).append(statements == 1 ? " statement\"" : " statements\"");
+            }
+            text.append(", ");
+        }
+        appendMetric("total", totalNanos());
+        return text.toString();
+    }
+
+    private void appendMetric(String name, long phaseNanos) {
+        long micros = phaseNanos / 1_000;
+        text.append(name).append(";dur=").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            text.append('0');
+        }
+        if (fraction < 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+    }
+}
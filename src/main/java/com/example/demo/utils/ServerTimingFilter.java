@@ -0,0 +1,174 @@
+package com.example.demo.utils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Records a {@link RequestTimings} breakdown for every request and reports it in the
+ * Server-Timing response header, optionally logging requests slower than a threshold.
+ *
+ * Headers cannot change once the response is committed, so the header is added right before
+ * that happens: when the message converter flushes the body (at which point serialization has
+ * finished), when the body outgrows the response buffer, or when the request completes.
+ * For bodies larger than the buffer the serialization time in the header is partial; the log
+ * line always has the full breakdown.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    private final long logThresholdNanos;
+
+    /**
+     * @param logThresholdMs requests taking at least this long are logged, 0 disables logging
+     */
+    public ServerTimingFilter(long logThresholdMs) {
+        this.logThresholdNanos = logThresholdMs > 0 ? logThresholdMs * 1_000_000 : Long.MAX_VALUE;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        TimingResponse timingResponse = new TimingResponse(response, timings);
+        try {
+            chain.doFilter(request, timingResponse);
+        } finally {
+            timingResponse.writeHeader(true);
+            timings.serializationCheckpoint(true);
+            if (timings.totalNanos() >= logThresholdNanos) {
+                log.info("Slow request {} {} ({}): {}", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), timings.toHeaderValue());
+            }
+            RequestTimings.end();
+        }
+    }
+
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private ServletOutputStream outputStream;
+        private boolean headerWritten;
+
+        private TimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        /**
+         * @param bodyComplete whether the body has been written completely
+         */
+        private void writeHeader(boolean bodyComplete) {
+            if (!headerWritten) {
+                headerWritten = true;
+                timings.serializationCheckpoint(bodyComplete);
+                if (!isCommitted()) {
+                    setHeader(HEADER, timings.toHeaderValue());
+                }
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new TimingOutputStream(super.getOutputStream(), this);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            // Writers are only used for small text bodies; no point in tracking them byte by byte.
+            writeHeader(true);
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader(true);
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader(true);
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader(true);
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader(true);
+            super.sendRedirect(location);
+        }
+    }
+
+    private static final class TimingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final TimingResponse response;
+        private long written;
+
+        private TimingOutputStream(ServletOutputStream delegate, TimingResponse response) {
+            this.delegate = delegate;
+            this.response = response;
+        }
+
+        private void beforeWrite(int length) {
+            written += length;
+            if (written >= response.getBufferSize()) {
+                response.writeHeader(false);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            beforeWrite(1);
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            beforeWrite(len);
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            response.writeHeader(true);
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.writeHeader(true);
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
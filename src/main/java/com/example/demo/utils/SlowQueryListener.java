@@ -0,0 +1,146 @@
+package com.example.demo.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Replaces spring.jpa.show-sql: every statement is timed into {@link SqlStatementStats}, but only
+ * statements slower than app.sql.slow-threshold-ms, plus a random app.sql.sample-rate share of
+ * the rest, are logged, together with the application method that issued them. Log lines go to
+ * the "com.example.demo.sql" logger, which logback-spring.xml routes through an async appender so
+ * request threads never wait on console I/O.
+ *
+ * Bind parameters hold password and token hashes and e-mail addresses, so by default only their
+ * types and lengths are logged; app.sql.log-parameters=true logs the values for local debugging.
+ */
+@Slf4j(topic = "com.example.demo.sql")
+@Component
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final String APP_PACKAGE = "com.example.demo.";
+    private static final String UTILS_PACKAGE = "com.example.demo.utils.";
+    private static final int MAX_PARAMETER_LENGTH = 100;
+    private static final ThreadLocal<long[]> STATEMENT_START = ThreadLocal.withInitial(() -> new long[1]);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final SqlStatementStats stats;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final boolean logParameters;
+
+    public SlowQueryListener(SqlStatementStats stats,
+                             @Value("${app.sql.slow-threshold-ms:200}") long slowThresholdMs,
+                             @Value("${app.sql.sample-rate:0}") double sampleRate,
+                             @Value("${app.sql.log-parameters:false}") boolean logParameters) {
+        this.stats = stats;
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000;
+        this.sampleRate = sampleRate;
+        this.logParameters = logParameters;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        STATEMENT_START.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedNanos = System.nanoTime() - STATEMENT_START.get()[0];
+        for (QueryInfo query : queryInfoList) {
+            stats.record(query.getQuery(), elapsedNanos / queryInfoList.size());
+        }
+
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        if (slow && log.isWarnEnabled()) {
+            log.warn("Slow SQL ({} ms) from {}: {}", elapsedNanos / 1_000_000, caller(), describe(queryInfoList, logParameters));
+        } else if (!slow && sampleRate > 0 && log.isInfoEnabled()
+                && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("Sampled SQL ({} ms) from {}: {}", elapsedNanos / 1_000_000, caller(), describe(queryInfoList, logParameters));
+        }
+    }
+
+    /**
+     * @return the innermost application method outside this package, skipping Spring proxies
+     */
+    static String caller() {
+        Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE)
+                        && !f.getClassName().startsWith(UTILS_PACKAGE)
+                        && !f.getClassName().contains("$$"))
+                .findFirst());
+        return frame.map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1)
+                        + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown");
+    }
+
+    /**
+     * @param logParameters whether to log bind parameter values instead of their types and lengths
+     */
+    static String describe(List<QueryInfo> queryInfoList, boolean logParameters) {
+        StringBuilder text = new StringBuilder();
+        for (QueryInfo query : queryInfoList) {
+            if (!text.isEmpty()) {
+                text.append("; ");
+            }
+            text.append(query.getQuery());
+            List<List<ParameterSetOperation>> parameterSets = query.getParametersList();
+            if (!parameterSets.isEmpty()) {
+                appendParameters(text, parameterSets.get(0), logParameters);
+                if (parameterSets.size() > 1) {
+                    text.append(" (+").append(parameterSets.size() - 1).append(" more in batch)");
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    private static void appendParameters(StringBuilder text, List<ParameterSetOperation> parameters,
+                                         boolean logParameters) {
+        text.append(" [");
+        for (int i = 0; i < parameters.size(); i++) {
+            ParameterSetOperation parameter = parameters.get(i);
+            Object[] args = parameter.getArgs();
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(args[0]).append('=');
+            boolean setNull = "setNull".equals(parameter.getMethod().getName());
+            Object argument = setNull || args.length < 2 ? null : args[1];
+            if (!logParameters) {
+                appendMasked(text, argument);
+                continue;
+            }
+            String value = String.valueOf(argument);
+            if (value.length() > MAX_PARAMETER_LENGTH) {
+                text.append(value, 0, MAX_PARAMETER_LENGTH).append("...");
+            } else {
+                text.append(value);
+            }
+        }
+        text.append(']');
+    }
+
+    /**
+     * Appends the type of a bind parameter, plus the length of strings and binary values.
+     */
+    private static void appendMasked(StringBuilder text, Object argument) {
+        if (argument == null) {
+            text.append("null");
+        } else if (argument instanceof CharSequence value) {
+            text.append("String(").append(value.length()).append(')');
+        } else if (argument instanceof byte[] value) {
+            text.append("byte[](").append(value.length).append(')');
+        } else {
+            text.append(argument.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.utils;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution count and time per distinct SQL string, collected in windows.
+ *
+ * Recording is lock-free. {@link #drain} swaps in a fresh window and returns the finished one;
+ * a statement finishing during the swap may still land in the old window and is then lost,
+ * which is fine for statistics. The number of distinct statements per window is capped so
+ * queries with inlined literals cannot grow the map without bound.
+ */
+@Component
+public class SqlStatementStats {
+
+    static final int MAX_DISTINCT_STATEMENTS = 2_000;
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    private final AtomicReference<Window> current = new AtomicReference<>(new Window(Instant.now()));
+
+    public void record(String sql, long elapsedNanos) {
+        Map<String, Entry> entries = current.get().entries;
+        Entry entry = entries.get(sql);
+        if (entry == null) {
+            entry = entries.size() < MAX_DISTINCT_STATEMENTS
+                    ? entries.computeIfAbsent(sql, key -> new Entry())
+                    : entries.computeIfAbsent(OTHER_STATEMENTS, key -> new Entry());
+        }
+        entry.count.increment();
+        entry.totalNanos.add(elapsedNanos);
+        entry.maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    /**
+     * Closes the current window and starts a new one.
+     *
+     * @param limit maximum number of statements to return
+     * @return the closed window's statements, highest total time first
+     */
+    public Snapshot drain(int limit) {
+        Instant now = Instant.now();
+        Window window = current.getAndSet(new Window(now));
+        List<StatementStats> statements = new ArrayList<>(window.entries.size());
+        long executions = 0;
+        for (Map.Entry<String, Entry> e : window.entries.entrySet()) {
+            Entry entry = e.getValue();
+            long count = entry.count.sum();
+            executions += count;
+            statements.add(new StatementStats(e.getKey(), count, entry.totalNanos.sum(), entry.maxNanos.get()));
+        }
+        statements.sort(Comparator.comparingLong(StatementStats::totalNanos).reversed());
+        return new Snapshot(window.start, now, executions,
+                statements.subList(0, Math.min(Math.max(limit, 0), statements.size())));
+    }
+
+    public record StatementStats(String sql, long count, long totalNanos, long maxNanos) {
+    }
+
+    public record Snapshot(Instant start, Instant end, long executions, List<StatementStats> top) {
+    }
+
+    private record Window(Instant start, Map<String, Entry> entries) {
+        private Window(Instant start) {
+            this(start, new ConcurrentHashMap<>());
+        }
+    }
+
+    private static final class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+}
@@ -10,8 +10,17 @@ import org.mapstruct.MappingTarget;
 public interface SupplierMapperM {
 
     @Mapping(source = "carParts", target = "carParts", qualifiedByName = "withoutSupplier")
+    @Mapping(target = "partCount", ignore = true)
     SupplierDto modelToDto(Supplier supplier);
 
+    /**
+     * Maps the supplier without touching the lazy carParts collection.
+     * Part counts and parts are filled in by the caller from batched queries.
+     */
+    @Mapping(target = "carParts", ignore = true)
+    @Mapping(target = "partCount", ignore = true)
+    SupplierDto modelToSummaryDto(Supplier supplier);
+
     @Mapping(target = "carParts", ignore = true)
     Supplier dtoToModelOnAdd(SupplierDto supplierDto);
 
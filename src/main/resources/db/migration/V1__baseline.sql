@@ -0,0 +1,74 @@
+-- Schema as previously generated by Hibernate with ddl-auto=update.
+-- Sequence increments match model.Sequences.ALLOCATION_SIZE (pooled-lo optimizer).
+
+create sequence users_seq start with 1 increment by 50;
+create sequence supplier_seq start with 1 increment by 50;
+create sequence car_part_seq start with 1 increment by 50;
+create sequence orders_seq start with 1 increment by 50;
+create sequence order_items_seq start with 1 increment by 50;
+
+create table users (
+    id bigint not null,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    email varchar(255) not null,
+    constraint pk_users primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
+
+create table user_roles (
+    user_id bigint not null,
+    roles varchar(255),
+    constraint fk_user_roles_user foreign key (user_id) references users (id)
+);
+
+create table supplier (
+    id bigint not null,
+    name varchar(255),
+    street varchar(255),
+    city varchar(255),
+    country varchar(255),
+    email varchar(255) not null,
+    constraint pk_supplier primary key (id)
+);
+
+create table car_part (
+    id bigint not null,
+    name varchar(255) not null,
+    price double precision not null,
+    stock integer not null,
+    reorder_threshold integer,
+    supplier_id bigint,
+    constraint pk_car_part primary key (id),
+    constraint fk_car_part_supplier foreign key (supplier_id) references supplier (id)
+);
+
+create table orders (
+    id bigint not null,
+    total double precision,
+    date date,
+    user_id bigint,
+    constraint pk_orders primary key (id),
+    constraint fk_orders_user foreign key (user_id) references users (id)
+);
+
+create table order_items (
+    id bigint not null,
+    order_id bigint,
+    car_part_id bigint,
+    quantity integer,
+    constraint pk_order_items primary key (id),
+    constraint fk_order_items_order foreign key (order_id) references orders (id),
+    constraint fk_order_items_car_part foreign key (car_part_id) references car_part (id)
+);
+
+create table user_order_summaries (
+    user_id bigint not null,
+    order_count bigint not null,
+    total_spent double precision not null,
+    last_order_date date,
+    constraint pk_user_order_summaries primary key (user_id)
+);
@@ -0,0 +1,18 @@
+-- Indexes for the lookups and joins the repositories run; also declared on the entities.
+
+-- Role loading per user
+create index idx_user_roles_user on user_roles (user_id);
+
+-- Supplier email uniqueness check on create/update
+create index idx_supplier_email on supplier (email);
+
+-- Parts per supplier (supplier listings, part counts, import name lookup)
+create index idx_car_part_supplier on car_part (supplier_id);
+
+-- Order history per user, and analytics rebuild over a date range
+create index idx_orders_user on orders (user_id);
+create index idx_orders_date on orders (date);
+
+-- Items per order, and sales per part
+create index idx_order_items_order on order_items (order_id);
+create index idx_order_items_car_part on order_items (car_part_id);
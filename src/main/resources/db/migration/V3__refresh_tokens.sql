@@ -0,0 +1,18 @@
+-- Rotating refresh tokens, stored as SHA-256 hashes. Rows are purged once expires_at has passed.
+
+create sequence refresh_tokens_seq start with 1 increment by 50;
+
+create table refresh_tokens (
+    id bigint not null,
+    token_hash varchar(64) not null,
+    family varchar(36) not null,
+    user_id bigint not null,
+    expires_at timestamp(6) with time zone not null,
+    rotated_at timestamp(6) with time zone,
+    constraint pk_refresh_tokens primary key (id),
+    constraint uk_refresh_tokens_token_hash unique (token_hash),
+    constraint fk_refresh_tokens_user foreign key (user_id) references users (id) on delete cascade
+);
+
+create index idx_refresh_tokens_family on refresh_tokens (family);
+create index idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
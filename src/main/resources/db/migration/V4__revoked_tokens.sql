@@ -0,0 +1,12 @@
+-- Access tokens revoked before their expiry (logout, account deletion), keyed by the jti claim.
+-- Rows are purged once expires_at has passed.
+
+create table revoked_tokens (
+    token_id varchar(36) not null,
+    expires_at timestamp(6) with time zone not null,
+    revoked_at timestamp(6) with time zone not null,
+    constraint pk_revoked_tokens primary key (token_id)
+);
+
+create index idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
+create index idx_revoked_tokens_revoked_at on revoked_tokens (revoked_at);
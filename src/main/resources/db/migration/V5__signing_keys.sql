@@ -0,0 +1,10 @@
+-- Asymmetric JWT signing keys shared by all instances. Private keys are stored AES-GCM encrypted.
+
+create table signing_keys (
+    kid varchar(36) not null,
+    algorithm varchar(10) not null,
+    public_key varbinary(1024) not null,
+    private_key varbinary(4096) not null,
+    created_at timestamp(6) with time zone not null,
+    constraint pk_signing_keys primary key (kid)
+);
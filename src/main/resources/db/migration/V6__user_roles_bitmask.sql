@@ -0,0 +1,12 @@
+-- Roles move from the user_roles table into a bitmask column on users (USER = 1, ADMIN = 2),
+-- see model.Role. The bits are distinct, so a distinct sum is their bitwise or.
+
+alter table users add column roles integer default 0 not null;
+
+update users u set roles = (
+    select coalesce(sum(distinct case r.roles when 'USER' then 1 when 'ADMIN' then 2 else 0 end), 0)
+    from user_roles r
+    where r.user_id = u.id
+);
+
+drop table user_roles;
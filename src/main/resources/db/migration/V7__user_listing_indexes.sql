@@ -0,0 +1,3 @@
+-- Name prefix filters of the admin user listing; email prefixes use uk_users_email.
+create index idx_users_first_name on users (first_name);
+create index idx_users_last_name on users (last_name);
@@ -0,0 +1,11 @@
+-- Rotation generation of each signing key. The unique constraint lets only one of several
+-- instances rotating at the same time store a key for a generation.
+
+alter table signing_keys add column generation bigint;
+
+update signing_keys k set generation = (
+    select count(*) from signing_keys o where o.created_at < k.created_at
+);
+
+alter table signing_keys alter column generation set not null;
+alter table signing_keys add constraint uk_signing_keys_generation unique (generation);
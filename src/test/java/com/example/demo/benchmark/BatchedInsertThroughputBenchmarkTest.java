@@ -0,0 +1,10 @@
+package com.example.demo.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the insert benchmarks with the application's JDBC batching settings.
+ */
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:benchmark-batched")
+class BatchedInsertThroughputBenchmarkTest extends InsertThroughputBenchmark {
+}
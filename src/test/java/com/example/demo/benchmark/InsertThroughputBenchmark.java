@@ -0,0 +1,118 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.DataInitializer;
+import com.example.demo.dto.OrderDto;
+import com.example.demo.dto.OrderItemDto;
+import com.example.demo.model.CarPart;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.SupplierRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.OrderService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Measures insert throughput of order placement and of the startup seeding.
+ *
+ * Subclasses run the same scenarios against their own in-memory database with different JDBC
+ * batching settings, so the printed lines can be compared side by side. Besides wall-clock
+ * throughput each scenario reports the JDBC statements prepared per unit of work, which is the
+ * number batching actually reduces. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "app.seeding.background=false")
+abstract class InsertThroughputBenchmark {
+
+    private static final int WARMUP_ORDERS = 200;
+    private static final int MEASURED_ORDERS = 2_000;
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int SEEDING_ROUNDS = 20;
+
+    @Autowired private OrderService orderService;
+    @Autowired private DataInitializer dataInitializer;
+    @Autowired private CarPartRepository carPartRepository;
+    @Autowired private SupplierRepository supplierRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void placeOrder() {
+        var supplier = supplierRepository.findAll().get(0);
+        List<Long> partIds = IntStream.range(0, ITEMS_PER_ORDER)
+                .mapToObj(i -> carPartRepository.save(CarPart.builder()
+                        .name("Benchmark part " + i)
+                        .price(10.0 + i)
+                        .stock(Integer.MAX_VALUE)
+                        .supplier(supplier)
+                        .build()).getId())
+                .toList();
+        OrderDto order = OrderDto.builder()
+                .items(partIds.stream()
+                        .map(id -> OrderItemDto.builder().carPartId(id).quantity(1).build())
+                        .toList())
+                .build();
+
+        for (int i = 0; i < WARMUP_ORDERS; i++) {
+            orderService.placeOrder("bob", order);
+        }
+        Statistics statistics = statistics();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ORDERS; i++) {
+            orderService.placeOrder("bob", order);
+        }
+        report("placeOrder", MEASURED_ORDERS, "orders", System.nanoTime() - start, statistics);
+    }
+
+    @Test
+    void seedDatabase() throws Exception {
+        long elapsed = 0;
+        Statistics statistics = statistics();
+        long statements = 0;
+        for (int round = 0; round < SEEDING_ROUNDS; round++) {
+            deleteAllData();
+            statistics.clear();
+            long start = System.nanoTime();
+            dataInitializer.seed();
+            elapsed += System.nanoTime() - start;
+            statements += statistics.getPrepareStatementCount();
+        }
+        System.out.printf("[%s] DataInitializer: %.2f ms per run, %.1f JDBC statements per run%n",
+                getClass().getSimpleName(), elapsed / 1e6 / SEEDING_ROUNDS,
+                (double) statements / SEEDING_ROUNDS);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private void report(String scenario, int units, String unitName, long elapsedNanos, Statistics statistics) {
+        System.out.printf("[%s] %s: %.0f %s/s, %.1f JDBC statements per %s%n",
+                getClass().getSimpleName(), scenario, units * 1e9 / elapsedNanos, unitName,
+                (double) statistics.getPrepareStatementCount() / units, unitName.substring(0, unitName.length() - 1));
+    }
+
+    private void deleteAllData() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from UserOrderSummary").executeUpdate();
+            entityManager.createQuery("delete from OrderItem").executeUpdate();
+            entityManager.createQuery("delete from Order").executeUpdate();
+            entityManager.createQuery("delete from CarPart").executeUpdate();
+            entityManager.createQuery("delete from Supplier").executeUpdate();
+            userRepository.deleteAll();
+        });
+    }
+}
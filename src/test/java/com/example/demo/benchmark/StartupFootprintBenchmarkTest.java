@@ -0,0 +1,72 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.SecurityTutorialApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.function.IntFunction;
+
+/**
+ * Compares startup time and retained heap of the default in-memory database (schema created by
+ * Hibernate, data seeded on every start) with the persistent profile (schema migrated once and
+ * only validated afterwards, seeding skipped because the data is already on disk).
+ *
+ * Every configuration is started once untimed so class loading and JIT warm-up do not favour the
+ * second one. Heap is measured after a full GC with the context still running. Run with
+ * {@code mvn test -Pbenchmark -Dtest=StartupFootprintBenchmarkTest}.
+ */
+@Tag("benchmark")
+class StartupFootprintBenchmarkTest {
+
+    private static final int MEASURED_STARTS = 3;
+
+    @TempDir
+    Path dataDirectory;
+
+    @Test
+    void inMemoryVersusPersistent() {
+        measure("in-memory, ddl-auto=update", run -> new String[]{
+                "--spring.datasource.url=jdbc:h2:mem:startup-" + run
+        });
+        String fileUrl = "jdbc:h2:file:" + dataDirectory.resolve("carparts").toAbsolutePath() + ";CACHE_SIZE=65536";
+        measure("persistent, flyway + validate", run -> new String[]{
+                "--spring.profiles.active=persistent",
+                "--spring.datasource.url=" + fileUrl
+        });
+    }
+
+    private void measure(String name, IntFunction<String[]> arguments) {
+        start(arguments.apply(-1)).close();
+        long startupNanos = 0;
+        long heapBytes = 0;
+        for (int run = 0; run < MEASURED_STARTS; run++) {
+            long begin = System.nanoTime();
+            try (ConfigurableApplicationContext context = start(arguments.apply(run))) {
+                startupNanos += System.nanoTime() - begin;
+                System.gc();
+                heapBytes += ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            }
+        }
+        System.out.printf("[StartupFootprint] %s: %.0f ms startup, %.1f MB heap after GC%n",
+                name, startupNanos / 1e6 / MEASURED_STARTS, heapBytes / 1024.0 / 1024 / MEASURED_STARTS);
+    }
+
+    private ConfigurableApplicationContext start(String... arguments) {
+        return new SpringApplicationBuilder(SecurityTutorialApplication.class)
+                .run(concat(arguments, "--server.port=0", "--app.seeding.background=false",
+                        "--spring.output.ansi.enabled=NEVER",
+                        "--logging.level.com.example.demo=INFO"));
+    }
+
+    private static String[] concat(String[] first, String... second) {
+        String[] all = new String[first.length + second.length];
+        System.arraycopy(first, 0, all, 0, first.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+}
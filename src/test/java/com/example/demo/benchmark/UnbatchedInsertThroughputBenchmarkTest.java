@@ -0,0 +1,16 @@
+package com.example.demo.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Baseline for {@link BatchedInsertThroughputBenchmarkTest}: one JDBC round trip per row, which
+ * is what IDENTITY ids forced on every insert before the entities moved to pooled sequences.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchmark-unbatched",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=1",
+        "spring.jpa.properties.hibernate.order_inserts=false",
+        "spring.jpa.properties.hibernate.order_updates=false"
+})
+class UnbatchedInsertThroughputBenchmarkTest extends InsertThroughputBenchmark {
+}
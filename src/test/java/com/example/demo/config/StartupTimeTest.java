@@ -0,0 +1,61 @@
+package com.example.demo.config;
+
+import com.example.demo.SecurityTutorialApplication;
+import com.example.demo.service.CarPartSearchIndex;
+import com.example.demo.utils.FirstRequestTimer;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Startup guard: starts the application with background seeding and checks that it answers
+ * requests as soon as it is live, and that it only reports ready once the sample data and the
+ * in-memory indexes are in place. Startup time itself is measured by
+ * {@code StartupFootprintBenchmarkTest}; the timeout here only keeps a hung startup from blocking
+ * the build.
+ */
+class StartupTimeTest {
+
+    private static final Duration READINESS_TIMEOUT = Duration.ofMinutes(1);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void applicationIsLiveAtOnceAndReadyOnlyAfterSeeding() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SecurityTutorialApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:startup-time",
+                        "--app.seeding.background=true",
+                        "--spring.output.ansi.enabled=NEVER")) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            DataSeeding seeding = context.getBean(DataSeeding.class);
+
+            assertEquals(200, get(baseUrl + "/actuator/health/liveness"));
+
+            long deadline = System.nanoTime() + READINESS_TIMEOUT.toNanos();
+            int readiness;
+            while ((readiness = get(baseUrl + "/actuator/health/readiness")) != 200) {
+                assertEquals(503, readiness, "Readiness while seeding");
+                assertTrue(System.nanoTime() < deadline, "Application not ready within " + READINESS_TIMEOUT);
+                Thread.sleep(50);
+            }
+
+            assertTrue(context.getBean(FirstRequestTimer.class).getTimeToFirstRequestMs() >= 0);
+            assertTrue(seeding.isCompleted(), "Ready before seeding completed");
+            assertTrue(context.getBean(CarPartSearchIndex.class).size() > 0, "Ready before search index was rebuilt");
+        }
+    }
+
+    private int get(String url) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
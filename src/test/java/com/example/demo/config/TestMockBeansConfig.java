@@ -2,6 +2,7 @@ package com.example.demo.config;
 
 import com.example.demo.security.JwtRequestFilter;
 import com.example.demo.security.JwtUtil;
+import com.example.demo.security.TokenRevocationList;
 import com.example.demo.service.CustomUserDetailsService;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -23,9 +24,15 @@ public class TestMockBeansConfig {
         return Mockito.mock(JwtUtil.class);
     }
 
+    @Bean
+    @Primary
+    public TokenRevocationList tokenRevocationList() {
+        return Mockito.mock(TokenRevocationList.class);
+    }
+
     @Bean
     public JwtRequestFilter jwtRequestFilter(CustomUserDetailsService customUserDetailsService,
-                                             JwtUtil jwtUtil) {
-        return new JwtRequestFilter(customUserDetailsService, jwtUtil);
+                                             JwtUtil jwtUtil, TokenRevocationList tokenRevocationList) {
+        return new JwtRequestFilter(customUserDetailsService, jwtUtil, tokenRevocationList);
     }
 }
@@ -2,9 +2,14 @@ package com.example.demo.controller;
 
 import com.example.demo.config.TestSecurityConfig;
 import com.example.demo.dto.AuthRequestDto;
+import com.example.demo.dto.AuthResponseDto;
+import com.example.demo.dto.RefreshTokenRequestDto;
+import com.example.demo.exception.InvalidRefreshTokenException;
 import com.example.demo.security.JwtUtil;
+import com.example.demo.security.TokenRevocationList;
 import com.example.demo.service.AuthService;
 import com.example.demo.service.CustomUserDetailsService;
+import com.example.demo.service.RefreshTokenService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -13,6 +18,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -32,12 +38,18 @@ class AuthControllerMvcTest {
     @MockBean
     private AuthService authService;
 
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
     @MockBean
     private JwtUtil jwtUtil;
 
     @MockBean
     private CustomUserDetailsService customUserDetailsService;
 
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
     @Test
     void login_ShouldReturnToken_WhenCredentialsAreValid() throws Exception {
 
@@ -46,11 +58,47 @@ class AuthControllerMvcTest {
 
         Mockito.when(authService.authenticateAndGenerateToken("john", "password"))
                 .thenReturn(token);
+        Mockito.when(refreshTokenService.issue("john")).thenReturn("refresh-token");
 
         mockMvc.perform(post("/api/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.jwt").value(token));
+                .andExpect(jsonPath("$.jwt").value(token))
+                .andExpect(jsonPath("$.refreshToken").value("refresh-token"));
+    }
+
+    @Test
+    void refresh_ShouldReturnNewTokens_WhenRefreshTokenIsValid() throws Exception {
+        Mockito.when(refreshTokenService.refresh("refresh-token"))
+                .thenReturn(new AuthResponseDto("new-jwt", "new-refresh-token"));
+
+        mockMvc.perform(post("/api/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequestDto("refresh-token"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jwt").value("new-jwt"))
+                .andExpect(jsonPath("$.refreshToken").value("new-refresh-token"));
+    }
+
+    @Test
+    void refresh_ShouldReturnUnauthorized_WhenRefreshTokenWasAlreadyUsed() throws Exception {
+        Mockito.when(refreshTokenService.refresh("used-token"))
+                .thenThrow(new InvalidRefreshTokenException("Refresh token already used"));
+
+        mockMvc.perform(post("/api/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequestDto("used-token"))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid or expired refresh token"));
+    }
+
+    @Test
+    @WithMockUser(username = "john")
+    void logout_ShouldRevokeTokens() throws Exception {
+        mockMvc.perform(post("/api/logout"))
+                .andExpect(status().isNoContent());
+
+        Mockito.verify(authService).logout(Mockito.argThat(auth -> auth.getName().equals("john")));
     }
 }
@@ -0,0 +1,153 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.OrderDto;
+import com.example.demo.dto.OrderItemDto;
+import com.example.demo.model.CarPart;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.SupplierRepository;
+import com.example.demo.service.OrderService;
+import com.example.demo.sql.QueryBudget;
+import com.example.demo.sql.SqlStatementRecorderConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the number of SQL statements the read endpoints issue against the seeded database.
+ *
+ * The second-level cache is cleared before every test, so budgets hold for a cold cache and an
+ * N+1 regression fails here instead of hiding behind cache hits. Users come from
+ * {@code @WithMockUser}, so authentication itself does not touch the database.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget",
+        "app.seeding.background=false"
+})
+@AutoConfigureMockMvc
+@Import(SqlStatementRecorderConfig.class)
+class EndpointQueryBudgetTest {
+
+    private static final String CUSTOMER = "dave";
+    private static final int ORDERS = 3;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private OrderService orderService;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private CarPartRepository carPartRepository;
+    @Autowired private SupplierRepository supplierRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        if (orderRepository.count() == 0) {
+            placeOrders();
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @WithMockUser(authorities = "USER")
+    @QueryBudget(2)
+    void listCarParts() throws Exception {
+        mockMvc.perform(get("/api/carPart")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(authorities = "USER")
+    @QueryBudget(1)
+    void searchCarParts() throws Exception {
+        mockMvc.perform(get("/api/carPart/search").param("q", "brake")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    @QueryBudget(2)
+    void listSuppliers() throws Exception {
+        mockMvc.perform(get("/api/suppliers")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    @QueryBudget(3)
+    void listSuppliersWithParts() throws Exception {
+        mockMvc.perform(get("/api/suppliers").param("include", "parts")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = CUSTOMER, authorities = "USER")
+    @QueryBudget(4)
+    void orderHistory() throws Exception {
+        mockMvc.perform(get("/api/orders")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    @QueryBudget(3)
+    void listAllOrders() throws Exception {
+        mockMvc.perform(get("/api/orders/all")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    @QueryBudget(2)
+    void listUsers() throws Exception {
+        mockMvc.perform(get("/api/user/page").param("size", "2").param("sort", "lastName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].password").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    @QueryBudget(2)
+    void listUsersFiltered() throws Exception {
+        mockMvc.perform(get("/api/user/page").param("email", "alice").param("role", "ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].email").value("alice.admin@example.com"));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    @QueryBudget(2)
+    void listUsersByNameInAnyCase() throws Exception {
+        mockMvc.perform(get("/api/user/page").param("name", "aLICE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].lastName").value("Anderson"));
+    }
+
+    private void placeOrders() {
+        var supplier = supplierRepository.findAll().get(0);
+        List<Long> partIds = IntStream.range(0, ITEMS_PER_ORDER)
+                .mapToObj(i -> carPartRepository.save(CarPart.builder()
+                        .name("Budget part " + i)
+                        .price(10.0 + i)
+                        .stock(Integer.MAX_VALUE)
+                        .supplier(supplier)
+                        .build()).getId())
+                .toList();
+        for (int i = 0; i < ORDERS; i++) {
+            orderService.placeOrder(CUSTOMER, OrderDto.builder()
+                    .items(partIds.stream()
+                            .map(id -> OrderItemDto.builder().carPartId(id).quantity(1).build())
+                            .toList())
+                    .build());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.demo.controller;
 
 import com.example.demo.security.JwtRequestFilter;
 import com.example.demo.security.JwtUtil;
+import com.example.demo.security.TokenRevocationList;
 import com.example.demo.service.CustomUserDetailsService;
 import com.example.demo.service.OrderService;
 import org.junit.jupiter.api.DisplayName;
@@ -57,8 +58,9 @@ class OrderControllerMvcTest {
     static class MockedBeansConfig {
 
         @Bean
-        public JwtRequestFilter jwtRequestFilter(CustomUserDetailsService customUserDetailsService, JwtUtil jwtUtil) {
-            return new JwtRequestFilter(customUserDetailsService, jwtUtil);
+        public JwtRequestFilter jwtRequestFilter(CustomUserDetailsService customUserDetailsService, JwtUtil jwtUtil,
+                                                 TokenRevocationList tokenRevocationList) {
+            return new JwtRequestFilter(customUserDetailsService, jwtUtil, tokenRevocationList);
         }
 
         @Bean
@@ -70,6 +72,11 @@ class OrderControllerMvcTest {
         public JwtUtil jwtUtil() {
             return Mockito.mock(JwtUtil.class);
         }
+
+        @Bean
+        public TokenRevocationList tokenRevocationList() {
+            return Mockito.mock(TokenRevocationList.class);
+        }
     }
 
     @TestConfiguration
@@ -0,0 +1,66 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.TestMockBeansConfig;
+import com.example.demo.config.TestSecurityConfig;
+import com.example.demo.dto.SqlStatementStatsDto;
+import com.example.demo.dto.SqlStatsDto;
+import com.example.demo.service.SqlStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SqlStatsAdminController.class)
+@Import({TestSecurityConfig.class, TestMockBeansConfig.class})
+class SqlStatsAdminControllerMvcTest {
+
+    private static final String BASE_URL = "/api/admin/sql-stats";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SqlStatsService sqlStatsService;
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    @DisplayName("GET /api/admin/sql-stats - Should return the last window")
+    void getSqlStats_ShouldReturnLastWindow() throws Exception {
+        when(sqlStatsService.getLastWindow()).thenReturn(SqlStatsDto.builder()
+                .windowStart(Instant.parse("2026-10-19T10:00:00Z"))
+                .windowEnd(Instant.parse("2026-10-19T10:01:00Z"))
+                .executions(12)
+                .topStatements(List.of(SqlStatementStatsDto.builder()
+                        .sql("select * from car_parts").count(10).totalMs(25.0).meanMs(2.5).maxMs(9.0).build()))
+                .build());
+
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.executions").value(12))
+                .andExpect(jsonPath("$.topStatements[0].sql").value("select * from car_parts"))
+                .andExpect(jsonPath("$.topStatements[0].count").value(10))
+                .andExpect(jsonPath("$.topStatements[0].maxMs").value(9.0));
+    }
+
+    @Test
+    @WithMockUser(authorities = "USER")
+    @DisplayName("GET /api/admin/sql-stats - Should be forbidden for users")
+    void getSqlStats_ShouldBeForbidden_ForUsers() throws Exception {
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(sqlStatsService);
+    }
+}
@@ -2,6 +2,8 @@ package com.example.demo.controller;
 
 import com.example.demo.config.TestMockBeansConfig;
 import com.example.demo.config.TestSecurityConfig;
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.dto.PageDto;
 import com.example.demo.dto.SupplierDto;
 import com.example.demo.model.Address;
 import com.example.demo.service.SupplierService;
@@ -12,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -20,6 +23,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -58,7 +62,7 @@ class SupplierControllerMvcTest {
     void getAllSuppliers_ShouldReturnList() throws Exception {
         List<SupplierDto> suppliers = List.of(getSampleSupplierDto());
 
-        when(supplierService.getAllSuppliers()).thenReturn(suppliers);
+        when(supplierService.getAllSuppliers(false)).thenReturn(suppliers);
 
         mockMvc.perform(get(BASE_URL))
                 .andExpect(status().isOk())
@@ -66,6 +70,37 @@ class SupplierControllerMvcTest {
                 .andExpect(jsonPath("$[0].email").value("acme@example.com"));
     }
 
+    @Test
+    @DisplayName("GET /api/suppliers?include=parts - Should request suppliers with parts")
+    void getAllSuppliers_WithIncludeParts_ShouldRequestParts() throws Exception {
+        when(supplierService.getAllSuppliers(true)).thenReturn(List.of(getSampleSupplierDto()));
+
+        mockMvc.perform(get(BASE_URL).param("include", "parts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("ACME Corp"));
+
+        verify(supplierService).getAllSuppliers(true);
+    }
+
+    @Test
+    @DisplayName("GET /api/suppliers/{id}/parts - Should return a page of parts")
+    void getSupplierParts_ShouldReturnPage() throws Exception {
+        PageDto<CarPartDto> page = PageDto.<CarPartDto>builder()
+                .content(List.of(CarPartDto.builder().id(5L).name("Brake Pad").build()))
+                .page(0)
+                .size(20)
+                .totalElements(1)
+                .totalPages(1)
+                .build();
+
+        when(supplierService.getSupplierParts(eq(1L), any(Pageable.class))).thenReturn(page);
+
+        mockMvc.perform(get(BASE_URL + "/1/parts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Brake Pad"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
     @Test
     @DisplayName("POST /api/suppliers - Should add supplier and return updated list")
     void addSupplier_ShouldReturnUpdatedList() throws Exception {
@@ -2,8 +2,12 @@ package com.example.demo.controller;
 
 import com.example.demo.config.TestMockBeansConfig;
 import com.example.demo.config.TestSecurityConfig;
+import com.example.demo.dto.PageDto;
 import com.example.demo.dto.RegisterRequestDto;
 import com.example.demo.dto.UserDto;
+import com.example.demo.exception.BadRequestException;
+import com.example.demo.model.Role;
+import com.example.demo.service.AuthService;
 import com.example.demo.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +16,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -21,6 +28,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -37,6 +46,9 @@ class UserControllerMvcTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private AuthService authService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -72,6 +84,7 @@ class UserControllerMvcTest {
                 .andExpect(status().isNoContent());
 
         verify(userService).deleteUserByUsername("john");
+        verify(authService).logout(any());
     }
 
     @Test
@@ -126,6 +139,67 @@ class UserControllerMvcTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("GET /api/user/page - Admin gets a page of users")
+    @WithMockUser(authorities  = "ADMIN")
+    void getUserPage_WithAdminAccess_ShouldReturnUsersPage() throws Exception {
+        List<UserDto> users = Arrays.asList(
+                UserDto.builder().id(1L).firstName("John").lastName("Doe").email("john@example.com").build(),
+                UserDto.builder().id(2L).firstName("Jane").lastName("Smith").email("jane@example.com").build()
+        );
+        PageDto<UserDto> page = PageDto.<UserDto>builder().content(users).page(0).size(20).totalElements(2).totalPages(1).build();
+
+        when(userService.getUsers(isNull(), isNull(), isNull(), any(Pageable.class))).thenReturn(page);
+
+        mockMvc.perform(get(BASE_URL + "/page"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].firstName").value("John"))
+                .andExpect(jsonPath("$.content[1].firstName").value("Jane"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+
+        verify(userService).getUsers(isNull(), isNull(), isNull(), eq(PageRequest.of(0, 20, Sort.by("id"))));
+    }
+
+    @Test
+    @DisplayName("GET /api/user/page - Filters and paging are passed on")
+    @WithMockUser(authorities  = "ADMIN")
+    void getUserPage_WithFilters_ShouldPassFiltersAndPage() throws Exception {
+        when(userService.getUsers(any(), any(), any(), any(Pageable.class)))
+                .thenReturn(PageDto.<UserDto>builder().content(List.of()).page(2).size(5).build());
+
+        mockMvc.perform(get(BASE_URL + "/page")
+                        .param("name", "Sm")
+                        .param("email", "jane")
+                        .param("role", "USER")
+                        .param("page", "2")
+                        .param("size", "5")
+                        .param("sort", "lastName,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").value(2));
+
+        verify(userService).getUsers("Sm", "jane", Role.USER, PageRequest.of(2, 5, Sort.by(Sort.Direction.DESC, "lastName")));
+    }
+
+    @Test
+    @DisplayName("GET /api/user/page - Unsupported sort is a bad request")
+    @WithMockUser(authorities  = "ADMIN")
+    void getUserPage_WithUnsupportedSort_ShouldReturnBadRequest() throws Exception {
+        when(userService.getUsers(any(), any(), any(), any(Pageable.class)))
+                .thenThrow(new BadRequestException("Users cannot be sorted by password"));
+
+        mockMvc.perform(get(BASE_URL + "/page").param("sort", "password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Users cannot be sorted by password"));
+    }
+
+    @Test
+    @DisplayName("GET /api/user/page - Non-admin gets forbidden")
+    @WithMockUser(authorities  = "USER")
+    void getUserPage_WithoutAdminAccess_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/page"))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("POST /api/user - Admin adds new user")
     @WithMockUser(authorities  = "ADMIN")
@@ -151,6 +225,7 @@ class UserControllerMvcTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[1].firstName").value("New"));
 
+        verify(userService).addUser(any(RegisterRequestDto.class));
         verify(userService).getAllUsers();
     }
 
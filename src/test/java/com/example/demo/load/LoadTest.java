@@ -0,0 +1,298 @@
+package com.example.demo.load;
+
+import com.example.demo.model.CarPart;
+import com.example.demo.model.Role;
+import com.example.demo.model.Supplier;
+import com.example.demo.model.User;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.SupplierRepository;
+import com.example.demo.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test against the application on a random local port and an in-memory H2
+ * database, so it needs no network access beyond loopback.
+ *
+ * Seeds load.users users and load.parts parts, then runs load.concurrency virtual users for
+ * load.warmup-seconds (discarded) and load.duration-seconds. Each virtual user logs in and
+ * repeats a mix of catalogue browsing, order history, order placement and occasional
+ * re-login or registration. Latencies are recorded per endpoint in HdrHistograms; the test
+ * prints throughput and p50/p95/p99 per endpoint and fails when an endpoint's p99 exceeds its
+ * budget (load.budget.&lt;endpoint&gt;, in ms) or more than 1% of its requests fail.
+ *
+ * Run with {@code mvn test -Pload-test}, e.g. {@code -Dload.concurrency=32 -Dload.duration-seconds=60}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest",
+        "app.seeding.background=false",
+        "app.rate-limit.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.example.demo=INFO"
+})
+class LoadTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 50);
+    private static final int PARTS = Integer.getInteger("load.parts", 500);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 30);
+    private static final double MAX_ERROR_RATE = 0.01;
+    private static final String PASSWORD = "load-test-password";
+
+    enum Endpoint {
+        LOGIN("login", 300),
+        REGISTER("register", 400),
+        LIST_PARTS("list-parts", 200),
+        PLACE_ORDER("place-order", 200),
+        ORDER_HISTORY("order-history", 200);
+
+        private final String key;
+        private final long defaultBudgetMs;
+
+        Endpoint(String key, long defaultBudgetMs) {
+            this.key = key;
+            this.defaultBudgetMs = defaultBudgetMs;
+        }
+
+        long budgetMs() {
+            return Long.getLong("load.budget." + key, defaultBudgetMs);
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private SupplierRepository supplierRepository;
+    @Autowired private CarPartRepository carPartRepository;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    private volatile Map<Endpoint, Stats> stats = newStats();
+    private List<String> usernames;
+    private List<Long> partIds;
+
+    @Test
+    void endpointsStayWithinLatencyBudgets() throws Exception {
+        seed();
+
+        run(WARMUP_SECONDS);
+        stats = newStats();
+        long start = System.nanoTime();
+        run(DURATION_SECONDS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        List<String> violations = new ArrayList<>();
+        System.out.printf("%n%-14s %8s %9s %9s %9s %9s %9s %7s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors");
+        stats.forEach((endpoint, endpointStats) -> {
+            Histogram histogram = endpointStats.latencies;
+            long count = histogram.getTotalCount();
+            long errors = endpointStats.errors.sum();
+            double p99 = millis(histogram.getValueAtPercentile(99));
+            System.out.printf("%-14s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                    endpoint.key, count, count / elapsedSeconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+                    p99, millis(histogram.getMaxValue()), errors);
+            if (count > 0 && p99 > endpoint.budgetMs()) {
+                violations.add(endpoint.key + " p99 " + p99 + " ms > budget " + endpoint.budgetMs() + " ms");
+            }
+            if (count > 0 && errors > count * MAX_ERROR_RATE) {
+                violations.add(endpoint.key + " failed " + errors + " of " + count + " requests");
+            }
+        });
+
+        assertTrue(violations.isEmpty(), "Load budgets exceeded: " + violations);
+    }
+
+    private void seed() {
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .username("load-user-" + i)
+                    .password(passwordHash)
+                    .firstName("Load")
+                    .lastName("User " + i)
+                    .email("load-user-" + i + "@example.com")
+                    .roles(EnumSet.of(Role.USER))
+                    .build());
+        }
+        usernames = userRepository.saveAll(users).stream().map(User::getUsername).toList();
+
+        Supplier supplier = supplierRepository.findAll().get(0);
+        List<CarPart> parts = new ArrayList<>(PARTS);
+        for (int i = 0; i < PARTS; i++) {
+            parts.add(CarPart.builder()
+                    .name("Load part " + i)
+                    .price(5.0 + i % 200)
+                    .stock(Integer.MAX_VALUE)
+                    .supplier(supplier)
+                    .build());
+        }
+        partIds = carPartRepository.saveAll(parts).stream().map(CarPart::getId).toList();
+    }
+
+    private void run(int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            String username = usernames.get(i % usernames.size());
+            executor.submit(() -> virtualUser(username, deadline));
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void virtualUser(String username, long deadline) {
+        String token = login(username);
+        while (System.nanoTime() < deadline) {
+            int roll = ThreadLocalRandom.current().nextInt(100);
+            if (token == null || roll < 5) {
+                token = login(username);
+            } else if (roll < 7) {
+                register();
+            } else if (roll < 57) {
+                call(Endpoint.LIST_PARTS, get("/api/carPart", token));
+            } else if (roll < 77) {
+                call(Endpoint.ORDER_HISTORY, get("/api/orders", token));
+            } else {
+                call(Endpoint.PLACE_ORDER, post("/api/orders", token, orderBody()));
+            }
+        }
+    }
+
+    private String login(String username) {
+        String body = call(Endpoint.LOGIN, post("/api/login", null,
+                Map.of("username", username, "password", PASSWORD)));
+        return body != null ? readJwt(body) : null;
+    }
+
+    private void register() {
+        int n = registrations.incrementAndGet();
+        String username = "load-registered-" + n + "-" + System.nanoTime();
+        call(Endpoint.REGISTER, post("/api/register", null, Map.of(
+                "firstName", "Load",
+                "lastName", "Registered " + n,
+                "email", username + "@example.com",
+                "username", username,
+                "password", PASSWORD)));
+    }
+
+    private Map<String, Object> orderBody() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int lines = 1 + random.nextInt(3);
+        List<Map<String, Object>> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(Map.of("carPartId", partIds.get(random.nextInt(partIds.size())), "quantity", 1 + random.nextInt(3)));
+        }
+        return Map.of("items", items);
+    }
+
+    /**
+     * Sends the request and records its latency.
+     *
+     * @return the response body, or null when the request failed
+     */
+    private String call(Endpoint endpoint, HttpRequest request) {
+        Stats endpointStats = stats.get(endpoint);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            endpointStats.latencies.recordValue(Math.max(1, (System.nanoTime() - start) / 1_000));
+            if (response.statusCode() / 100 != 2) {
+                endpointStats.errors.increment();
+                return null;
+            }
+            return response.body();
+        } catch (Exception e) {
+            endpointStats.errors.increment();
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        try {
+            return request(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30));
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+
+    private String readJwt(String body) {
+        try {
+            return objectMapper.readTree(body).path("jwt").asText(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Map<Endpoint, Stats> newStats() {
+        Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+        return stats;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static final class Stats {
+        // Microseconds with 3 significant digits; the histogram resizes to fit slow outliers.
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
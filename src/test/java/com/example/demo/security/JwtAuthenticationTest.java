@@ -0,0 +1,152 @@
+package com.example.demo.security;
+
+import com.example.demo.model.Role;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.CustomUserDetailsService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bearer tokens that cannot be verified reach protected endpoints unauthenticated and are
+ * answered with 401, the signal for clients to renew the access token. The HS256 migration
+ * window is closed, so tokens without a kid are rejected.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jwt-authentication",
+        "app.seeding.background=false",
+        "jwt.signing.hmac-accepted-until=2020-01-01T00:00:00Z"
+})
+@AutoConfigureMockMvc
+class JwtAuthenticationTest {
+
+    private static final String USERNAME = "jwt-authentication";
+    private static final String PROTECTED_URL = "/api/carPart";
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtUtil jwtUtil;
+    @Autowired private JwtKeyRing keyRing;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByUsername(USERNAME).isEmpty()) {
+            userRepository.save(User.builder()
+                    .username(USERNAME)
+                    .password("password")
+                    .firstName("Jwt")
+                    .lastName("Authentication")
+                    .email(USERNAME + "@example.com")
+                    .roles(Set.of(Role.USER))
+                    .build());
+        }
+    }
+
+    @Test
+    void validToken_ShouldBeAccepted() throws Exception {
+        String token = jwtUtil.generateToken(userDetailsService.loadUserByUsername(USERNAME));
+
+        mockMvc.perform(get(PROTECTED_URL).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void expiredToken_ShouldBeUnauthorized() throws Exception {
+        JwtSigningKey key = keyRing.signingKey();
+        long now = System.currentTimeMillis();
+        String token = Jwts.builder()
+                .header().keyId(key.kid()).and()
+                .subject(USERNAME)
+                .issuedAt(new Date(now - 20 * 60_000))
+                .expiration(new Date(now - 5 * 60_000))
+                .signWith(key.privateKey(), key.signatureAlgorithm())
+                .compact();
+
+        mockMvc.perform(get(PROTECTED_URL).header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void tamperedToken_ShouldBeUnauthorized() throws Exception {
+        String[] parts = jwtUtil.generateToken(userDetailsService.loadUserByUsername(USERNAME)).split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"sub\":\"" + USERNAME + "\"", "\"sub\":\"admin\"");
+        assertTrue(payload.contains("\"sub\":\"admin\""), payload);
+        String token = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        mockMvc.perform(get(PROTECTED_URL).header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void tokenWithoutKid_ShouldBeUnauthorized_AfterHmacWindow() throws Exception {
+        String token = Jwts.builder()
+                .subject(USERNAME)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes()), Jwts.SIG.HS256)
+                .compact();
+
+        mockMvc.perform(get(PROTECTED_URL).header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void tokenWithUnknownKid_ShouldBeUnauthorized() throws Exception {
+        JwtSigningKey unknown = JwtSigningKey.generate(JwtSigningKey.RS256, Instant.now());
+        String token = Jwts.builder()
+                .header().keyId(unknown.kid()).and()
+                .subject(USERNAME)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(unknown.privateKey(), unknown.signatureAlgorithm())
+                .compact();
+
+        mockMvc.perform(get(PROTECTED_URL).header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void tokenOfDeletedUser_ShouldBeUnauthorized() throws Exception {
+        String username = USERNAME + "-deleted";
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .password("password")
+                .firstName("Jwt")
+                .lastName("Deleted")
+                .email(username + "@example.com")
+                .roles(Set.of(Role.USER))
+                .build());
+        String token = jwtUtil.generateToken(userDetailsService.loadUserByUsername(username));
+        userRepository.delete(user);
+
+        mockMvc.perform(get(PROTECTED_URL).header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void malformedToken_ShouldBeUnauthorized() throws Exception {
+        mockMvc.perform(get(PROTECTED_URL).header("Authorization", "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized());
+    }
+}
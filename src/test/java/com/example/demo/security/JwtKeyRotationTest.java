@@ -0,0 +1,189 @@
+package com.example.demo.security;
+
+import com.example.demo.model.SigningKey;
+import com.example.demo.repository.SigningKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtKeyRotationTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final List<SigningKey> stored = new ArrayList<>();
+    private SigningKeyRepository repository;
+    private JwtKeyRing keyRing;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(SigningKeyRepository.class);
+        when(repository.findAllByOrderByGenerationAsc()).thenAnswer(invocation -> stored.stream()
+                .sorted(Comparator.comparing(SigningKey::getGeneration)).toList());
+        when(repository.saveAndFlush(any(SigningKey.class))).thenAnswer(invocation -> {
+            SigningKey key = invocation.getArgument(0);
+            if (stored.stream().anyMatch(existing -> existing.getGeneration().equals(key.getGeneration()))) {
+                throw new DataIntegrityViolationException("uk_signing_keys_generation");
+            }
+            stored.add(key);
+            return key;
+        });
+        doAnswer(invocation -> stored.remove(invocation.<SigningKey>getArgument(0)))
+                .when(repository).delete(any(SigningKey.class));
+        keyRing = new JwtKeyRing();
+    }
+
+    @Test
+    void synchronize_ShouldCreateAndUseFirstKeyRightAway() {
+        rotation(JwtSigningKey.ES256).synchronize();
+
+        assertEquals(1, stored.size());
+        assertNotNull(keyRing.signingKey());
+        assertEquals(stored.get(0).getKid(), keyRing.signingKey().kid());
+        List<?> keys = (List<?>) keyRing.jwks().get("keys");
+        assertEquals("EC", ((Map<?, ?>) keys.get(0)).get("kty"));
+    }
+
+    @Test
+    void synchronize_ShouldStorePrivateKeyEncryptedAndRestoreIt() {
+        rotation(JwtSigningKey.EDDSA).synchronize();
+        JwtSigningKey created = keyRing.signingKey();
+
+        assertFalse(Arrays.equals(created.privateKey().getEncoded(), stored.get(0).getPrivateKey()));
+
+        JwtKeyRing otherInstance = new JwtKeyRing();
+        new JwtKeyRotation(repository, otherInstance, JwtSigningKey.EDDSA, Duration.ofDays(7),
+                Duration.ofMinutes(10), 900, SECRET).synchronize();
+        assertArrayEquals(created.privateKey().getEncoded(), otherInstance.signingKey().privateKey().getEncoded());
+        assertEquals(1, stored.size());
+    }
+
+    @Test
+    void synchronize_ShouldPublishRotatedKeyBeforeSigningWithIt() {
+        addStoredKey(JwtSigningKey.ES256, Instant.now().minus(Duration.ofDays(8)));
+        String oldKid = stored.get(0).getKid();
+
+        rotation(JwtSigningKey.ES256).synchronize();
+
+        assertEquals(2, stored.size());
+        assertEquals(1L, stored.get(1).getGeneration());
+        assertEquals(oldKid, keyRing.signingKey().kid());
+        assertNotNull(keyRing.find(stored.get(1).getKid()));
+    }
+
+    @Test
+    void synchronize_ShouldSwitchToNewKeyAfterActivationAndDropOldOneWhenItsTokensExpired() {
+        addStoredKey(JwtSigningKey.ES256, Instant.now().minus(Duration.ofDays(8)));
+        addStoredKey(JwtSigningKey.ES256, Instant.now().minus(Duration.ofMinutes(11)));
+        String newKid = stored.get(1).getKid();
+
+        rotation(JwtSigningKey.ES256).synchronize();
+        assertEquals(newKid, keyRing.signingKey().kid());
+        assertEquals(2, stored.size());
+
+        stored.get(1).setCreatedAt(Instant.now().minus(Duration.ofMinutes(30)));
+        rotation(JwtSigningKey.ES256).synchronize();
+        assertEquals(1, stored.size());
+        assertEquals(newKid, keyRing.signingKey().kid());
+    }
+
+    @Test
+    void synchronize_ShouldUseKeyOfInstanceThatCreatedTheGenerationFirst() {
+        rotation(JwtSigningKey.ES256).synchronize();
+        String winnerKid = stored.get(0).getKid();
+
+        // The other instance read the table before the first key was committed.
+        JwtKeyRing otherInstance = new JwtKeyRing();
+        when(repository.findAllByOrderByGenerationAsc()).thenReturn(List.of()).thenAnswer(invocation -> List.copyOf(stored));
+        new JwtKeyRotation(repository, otherInstance, JwtSigningKey.ES256, Duration.ofDays(7),
+                Duration.ofMinutes(10), 900, SECRET).synchronize();
+
+        assertEquals(1, stored.size());
+        assertEquals(winnerKid, otherInstance.signingKey().kid());
+        assertEquals(winnerKid, keyRing.signingKey().kid());
+    }
+
+    @Test
+    void reloadForUnknownKey_ShouldLoadKeyCreatedByAnotherInstance() {
+        JwtKeyRotation rotation = rotation(JwtSigningKey.ES256);
+        rotation.synchronize();
+        addStoredKey(JwtSigningKey.ES256, Instant.now());
+        String newKid = stored.get(1).getKid();
+        assertNull(keyRing.find(newKid));
+
+        assertTrue(rotation.reloadForUnknownKey());
+        assertNotNull(keyRing.find(newKid));
+    }
+
+    @Test
+    void reloadForUnknownKey_ShouldReloadAtMostOncePerInterval() {
+        JwtKeyRotation rotation = rotation(JwtSigningKey.ES256);
+
+        assertTrue(rotation.reloadForUnknownKey());
+        assertFalse(rotation.reloadForUnknownKey());
+        verify(repository, times(1)).findAllByOrderByGenerationAsc();
+    }
+
+    @Test
+    void reloadForUnknownKey_ShouldNeitherCreateNorDeleteKeys() {
+        addStoredKey(JwtSigningKey.ES256, Instant.now().minus(Duration.ofDays(30)));
+        addStoredKey(JwtSigningKey.ES256, Instant.now().minus(Duration.ofDays(8)));
+        String currentKid = stored.get(1).getKid();
+
+        assertTrue(rotation(JwtSigningKey.ES256).reloadForUnknownKey());
+
+        verify(repository, never()).saveAndFlush(any(SigningKey.class));
+        verify(repository, never()).delete(any(SigningKey.class));
+        assertEquals(2, stored.size());
+        assertEquals(currentKid, keyRing.signingKey().kid());
+        assertNull(keyRing.find(stored.get(0).getKid()));
+    }
+
+    @Test
+    void reloadForUnknownKey_ShouldDoNothing_ForHmac() {
+        assertFalse(rotation(JwtKeyRotation.HMAC).reloadForUnknownKey());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void synchronize_ShouldDoNothing_ForHmac() {
+        rotation(JwtKeyRotation.HMAC).synchronize();
+
+        assertNull(keyRing.signingKey());
+        verifyNoInteractions(repository);
+    }
+
+    private JwtKeyRotation rotation(String algorithm) {
+        return new JwtKeyRotation(repository, keyRing, algorithm, Duration.ofDays(7), Duration.ofMinutes(10), 900, SECRET);
+    }
+
+    /**
+     * Stores a key as the next generation, as if another instance had created it.
+     */
+    private void addStoredKey(String algorithm, Instant createdAt) {
+        JwtKeyRing scratch = new JwtKeyRing();
+        List<SigningKey> holder = new ArrayList<>();
+        SigningKeyRepository scratchRepository = mock(SigningKeyRepository.class);
+        when(scratchRepository.findAllByOrderByGenerationAsc()).thenReturn(List.of());
+        when(scratchRepository.saveAndFlush(any(SigningKey.class))).thenAnswer(invocation -> {
+            holder.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        new JwtKeyRotation(scratchRepository, scratch, algorithm, Duration.ofDays(7), Duration.ofMinutes(10), 900, SECRET)
+                .synchronize();
+        SigningKey key = holder.get(0);
+        key.setCreatedAt(createdAt);
+        key.setGeneration((long) stored.size());
+        stored.add(key);
+    }
+}
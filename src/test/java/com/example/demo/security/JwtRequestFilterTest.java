@@ -0,0 +1,93 @@
+package com.example.demo.security;
+
+import com.example.demo.service.CustomUserDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+class JwtRequestFilterTest {
+
+    private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationList revocationList;
+    private JwtRequestFilter filter;
+    private UserDetails user;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory noBeans = new StaticListableBeanFactory();
+        jwtUtil = spy(new JwtUtil(noBeans.getBeanProvider(JwtKeyRing.class), noBeans.getBeanProvider(JwtKeyRotation.class)));
+        setField(jwtUtil, "secret", SECRET_KEY);
+        setField(jwtUtil, "expiration", 900L);
+        user = User.withUsername("john").password("password").authorities("ADMIN").build();
+        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+        when(userDetailsService.loadUserByUsername("john")).thenReturn(user);
+        when(userDetailsService.loadUserByUsername("deleted")).thenThrow(new UsernameNotFoundException("deleted"));
+        revocationList = mock(TokenRevocationList.class);
+        filter = new JwtRequestFilter(userDetailsService, jwtUtil, revocationList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ShouldParseTokenOnlyOnce() throws Exception {
+        String token = jwtUtil.generateToken(user);
+        String tokenId = jwtUtil.extractTokenId(token);
+        when(revocationList.isEmpty()).thenReturn(false);
+        clearInvocations(jwtUtil);
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+        verify(jwtUtil, times(1)).parseClaims(token);
+        verify(revocationList).isRevoked(tokenId);
+    }
+
+    @Test
+    void doFilter_ShouldNotAuthenticate_RevokedToken() throws Exception {
+        String token = jwtUtil.generateToken(user);
+        when(revocationList.isEmpty()).thenReturn(false);
+        when(revocationList.isRevoked(jwtUtil.extractTokenId(token))).thenReturn(true);
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilter_ShouldNotAuthenticate_TokenOfDeletedUser() throws Exception {
+        String token = jwtUtil.generateToken(User.withUsername("deleted").password("password").authorities("USER").build());
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/carPart/all");
+        request.setServletPath("/api/carPart/all");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -1,24 +1,31 @@
 package com.example.demo.security;
 
 import com.example.demo.model.Role;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 class JwtUtilTest {
@@ -28,15 +35,24 @@ class JwtUtilTest {
     private String token;
     private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
     private static final long EXPIRATION = 36000L;
-    private Key key;
+    private static final long REFRESH_EXPIRATION = 1209600L;
+    private SecretKey key;
+    private JwtKeyRing keyRing;
+    private JwtKeyRotation keyRotation;
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
+        keyRing = new JwtKeyRing();
+        keyRotation = mock(JwtKeyRotation.class);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("jwtKeyRing", keyRing);
+        beans.addBean("jwtKeyRotation", keyRotation);
+        jwtUtil = new JwtUtil(beans.getBeanProvider(JwtKeyRing.class), beans.getBeanProvider(JwtKeyRotation.class));
 
 
         setField(jwtUtil, "secret", SECRET_KEY);
         setField(jwtUtil, "expiration", EXPIRATION);
+        setField(jwtUtil, "refreshExpiration", REFRESH_EXPIRATION);
 
 
         key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
@@ -52,6 +68,9 @@ class JwtUtilTest {
         token = generateToken(userDetails);
     }
 
+    /**
+     * Token with the legacy roles claim, as issued before roles were encoded as a bitmask.
+     */
     private String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("roles", userDetails.getAuthorities().stream()
@@ -96,10 +115,10 @@ class JwtUtilTest {
     @Test
     void validateToken_ShouldReturnFalse_ForExpiredToken() {
         String expiredToken = Jwts.builder()
-                .setSubject("testuser")
-                .setIssuedAt(new Date(System.currentTimeMillis() - 1000 * 60))
-                .setExpiration(new Date(System.currentTimeMillis() - 1000 * 30))
-                .signWith(key, SignatureAlgorithm.HS256)
+                .subject("testuser")
+                .issuedAt(new Date(System.currentTimeMillis() - 1000 * 60))
+                .expiration(new Date(System.currentTimeMillis() - 1000 * 30))
+                .signWith(key, Jwts.SIG.HS256)
                 .compact();
 
         assertFalse(jwtUtil.validateToken(expiredToken, userDetails));
@@ -114,6 +133,21 @@ class JwtUtilTest {
         assertEquals("USER", roles.get(0).getAuthority());
     }
 
+    @Test
+    void generateToken_ShouldEncodeRolesAsBitmask() {
+        UserDetails admin = new User("admin", "password",
+                List.of(new SimpleGrantedAuthority(Role.USER.name()), new SimpleGrantedAuthority(Role.ADMIN.name())));
+
+        String generatedToken = jwtUtil.generateToken(admin);
+
+        String payload = new String(Base64.getUrlDecoder().decode(generatedToken.split("\\.")[1]));
+        assertTrue(payload.contains("\"" + JwtUtil.ROLES_CLAIM + "\":3"), payload);
+        assertFalse(payload.contains("\"roles\""), payload);
+        var roles = jwtUtil.extractRoles(generatedToken);
+        assertEquals(List.of("USER", "ADMIN"), roles.stream().map(GrantedAuthority::getAuthority).toList());
+        assertSame(roles, jwtUtil.extractRoles(jwtUtil.generateToken(admin)), "Authority lists are shared");
+    }
+
     @Test
     void generateToken_ShouldCreateDifferentTokensForDifferentUsers() {
         UserDetails otherUser = new User(
@@ -130,4 +164,92 @@ class JwtUtilTest {
         assertEquals("testuser", jwtUtil.extractUsername(token1));
         assertEquals("otheruser", jwtUtil.extractUsername(token2));
     }
+
+    @Test
+    void generateToken_ShouldGiveEveryTokenAUniqueId() {
+        String token1 = jwtUtil.generateToken(userDetails);
+        String token2 = jwtUtil.generateToken(userDetails);
+
+        assertNotNull(jwtUtil.extractTokenId(token1));
+        assertNotEquals(jwtUtil.extractTokenId(token1), jwtUtil.extractTokenId(token2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {JwtSigningKey.RS256, JwtSigningKey.ES256, JwtSigningKey.EDDSA})
+    void generateToken_ShouldSignWithKeyRingKeyAndKid(String algorithm) {
+        JwtSigningKey signingKey = JwtSigningKey.generate(algorithm, Instant.now());
+        keyRing.replace(signingKey, List.of(signingKey));
+
+        String generatedToken = jwtUtil.generateToken(userDetails);
+
+        String header = new String(Base64.getUrlDecoder().decode(generatedToken.substring(0, generatedToken.indexOf('.'))));
+        assertTrue(header.contains("\"kid\":\"" + signingKey.kid() + "\""), header);
+        assertTrue(header.contains("\"alg\":\"" + algorithm + "\""), header);
+        assertTrue(jwtUtil.validateToken(generatedToken, userDetails));
+        assertEquals("USER", jwtUtil.extractRoles(generatedToken).get(0).getAuthority());
+    }
+
+    @Test
+    void extractUsername_ShouldAcceptHmacTokens_WithinMigrationWindow() {
+        JwtSigningKey signingKey = JwtSigningKey.generate(JwtSigningKey.ES256, Instant.now());
+        keyRing.replace(signingKey, List.of(signingKey));
+        setField(jwtUtil, "hmacAcceptedUntil", Instant.now().plusSeconds(600).toString());
+
+        assertEquals("testuser", jwtUtil.extractUsername(token));
+    }
+
+    @Test
+    void extractUsername_ShouldRejectHmacTokens_OnceMigrationWindowIsClosed() {
+        JwtSigningKey signingKey = JwtSigningKey.generate(JwtSigningKey.ES256, Instant.now());
+        keyRing.replace(signingKey, List.of(signingKey));
+        setField(jwtUtil, "hmacAcceptedUntil", Instant.now().minusSeconds(1).toString());
+
+        assertThrows(JwtException.class, () -> jwtUtil.extractUsername(token));
+    }
+
+    @Test
+    void extractUsername_ShouldAcceptHmacTokens_ForRefreshLifetimeAfterStartup_ByDefault() {
+        JwtSigningKey signingKey = JwtSigningKey.generate(JwtSigningKey.ES256, Instant.now());
+        keyRing.replace(signingKey, List.of(signingKey));
+
+        assertEquals("testuser", jwtUtil.extractUsername(token));
+    }
+
+    @Test
+    void extractUsername_ShouldRejectHmacTokens_OnceDefaultMigrationWindowIsOver() {
+        JwtSigningKey signingKey = JwtSigningKey.generate(JwtSigningKey.ES256, Instant.now());
+        keyRing.replace(signingKey, List.of(signingKey));
+        setField(jwtUtil, "startedAt", Instant.now().minusSeconds(REFRESH_EXPIRATION + 1));
+
+        assertThrows(JwtException.class, () -> jwtUtil.extractUsername(token));
+    }
+
+    @Test
+    void extractUsername_ShouldReject_WhenSigningKeyIsNoLongerKnown() {
+        JwtSigningKey retired = JwtSigningKey.generate(JwtSigningKey.ES256, Instant.now());
+        keyRing.replace(retired, List.of(retired));
+        String signedWithRetired = jwtUtil.generateToken(userDetails);
+
+        JwtSigningKey current = JwtSigningKey.generate(JwtSigningKey.ES256, Instant.now());
+        keyRing.replace(current, List.of(current));
+
+        assertThrows(JwtException.class, () -> jwtUtil.extractUsername(signedWithRetired));
+    }
+
+    @Test
+    void extractUsername_ShouldReloadKeys_WhenKidIsUnknown() {
+        JwtSigningKey created = JwtSigningKey.generate(JwtSigningKey.ES256, Instant.now());
+        keyRing.replace(created, List.of(created));
+        String signedByOtherInstance = jwtUtil.generateToken(userDetails);
+
+        JwtSigningKey previous = JwtSigningKey.generate(JwtSigningKey.ES256, Instant.now());
+        keyRing.replace(previous, List.of(previous));
+        when(keyRotation.reloadForUnknownKey()).thenAnswer(invocation -> {
+            keyRing.replace(previous, List.of(previous, created));
+            return true;
+        });
+
+        assertEquals("testuser", jwtUtil.extractUsername(signedByOtherInstance));
+        verify(keyRotation).reloadForUnknownKey();
+    }
 }
@@ -0,0 +1,123 @@
+package com.example.demo.security;
+
+import com.example.demo.utils.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimitFilterTest {
+
+    private final List<String> forwardedBodies = new ArrayList<>();
+    private final LoginRateLimitFilter filter = new LoginRateLimitFilter(
+            new RateLimiter(3, 1, 100), new RateLimiter(2, 1, 100), new ObjectMapper());
+
+    @Test
+    void doFilter_ShouldLimitLoginsPerUsernameAndReplayBody() throws Exception {
+        assertEquals(200, login("10.0.0.1", "alice").getStatus());
+        assertEquals(200, login("10.0.0.2", "alice").getStatus());
+
+        MockHttpServletResponse rejected = login("10.0.0.3", "alice");
+
+        assertEquals(429, rejected.getStatus());
+        assertTrue(Long.parseLong(rejected.getHeader("Retry-After")) > 0);
+        assertTrue(rejected.getContentAsString().contains("\"status\":429"));
+        assertEquals(2, forwardedBodies.size());
+        assertEquals(body("alice"), forwardedBodies.get(0));
+    }
+
+    @Test
+    void doFilter_ShouldLimitRequestsPerClientIp() throws Exception {
+        assertEquals(200, login("10.0.0.1", "a").getStatus());
+        assertEquals(200, login("10.0.0.1", "b").getStatus());
+        assertEquals(200, login("10.0.0.1", "c").getStatus());
+
+        assertEquals(429, login("10.0.0.1", "d").getStatus());
+        assertEquals(200, login("10.0.0.2", "d").getStatus());
+    }
+
+    @Test
+    void doFilter_ShouldIgnoreOtherEndpoints() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/carPart");
+            request.setServletPath("/api/carPart");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    @Test
+    void doFilter_ShouldReplayBodyToNonBlockingReader() throws Exception {
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LoginRateLimitFilter.LOGIN_PATH);
+        request.setServletPath(LoginRateLimitFilter.LOGIN_PATH);
+        request.setContentType("application/json");
+        request.setContent(body("alice").getBytes(StandardCharsets.UTF_8));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                ServletInputStream in = req.getInputStream();
+                in.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        events.add("data");
+                        byte[] buffer = new byte[16];
+                        while (in.isReady() && !in.isFinished()) {
+                            read.write(buffer, 0, in.read(buffer));
+                        }
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        events.add("done");
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        events.add("error");
+                    }
+                });
+            }
+        }));
+
+        assertEquals(List.of("data", "done"), events);
+        assertEquals(body("alice"), read.toString(StandardCharsets.UTF_8));
+    }
+
+    private MockHttpServletResponse login(String ip, String username) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LoginRateLimitFilter.LOGIN_PATH);
+        request.setServletPath(LoginRateLimitFilter.LOGIN_PATH);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body(username).getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                forwardedBodies.add(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private static String body(String username) {
+        return "{\"username\":\"" + username + "\",\"password\":\"secret\"}";
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.demo.security;
+
+import com.example.demo.model.RevokedToken;
+import com.example.demo.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+class TokenRevocationListTest {
+
+    private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private RevokedTokenRepository repository;
+    private JwtUtil jwtUtil;
+    private TokenRevocationList revocationList;
+    private UserDetails user;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        StaticListableBeanFactory noBeans = new StaticListableBeanFactory();
+        jwtUtil = new JwtUtil(noBeans.getBeanProvider(JwtKeyRing.class), noBeans.getBeanProvider(JwtKeyRotation.class));
+        setField(jwtUtil, "secret", SECRET_KEY);
+        setField(jwtUtil, "expiration", 900L);
+        revocationList = new TokenRevocationList(repository, jwtUtil, 16);
+        user = User.withUsername("john").password("password").authorities("USER").build();
+    }
+
+    @Test
+    void revoke_ShouldPersistAndRejectOnlyThatToken() {
+        String revoked = jwtUtil.generateToken(user);
+        String other = jwtUtil.generateToken(user);
+
+        assertTrue(revocationList.isEmpty());
+        assertTrue(revocationList.revoke(revoked));
+
+        assertFalse(revocationList.isEmpty());
+        assertTrue(revocationList.isRevoked(jwtUtil.extractTokenId(revoked)));
+        assertFalse(revocationList.isRevoked(jwtUtil.extractTokenId(other)));
+        assertFalse(revocationList.isRevoked(null));
+        verify(repository).save(argThat(token -> token.getTokenId().equals(jwtUtil.extractTokenId(revoked))));
+    }
+
+    @Test
+    void revoke_ShouldRejectToken_OnlyAfterCommit() {
+        String token = jwtUtil.generateToken(user);
+        String tokenId = jwtUtil.extractTokenId(token);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(revocationList.revoke(token));
+            assertFalse(revocationList.isRevoked(tokenId));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(revocationList.isRevoked(tokenId));
+    }
+
+    @Test
+    void revoke_ShouldNotRejectToken_WhenTransactionRollsBack() {
+        String token = jwtUtil.generateToken(user);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(revocationList.revoke(token));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(revocationList.isRevoked(jwtUtil.extractTokenId(token)));
+        assertTrue(revocationList.isEmpty());
+    }
+
+    @Test
+    void sync_ShouldLoadRevocationsFromOtherInstances() {
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of(
+                new RevokedToken("remote-id", Instant.now().plusSeconds(600), Instant.now())));
+
+        revocationList.sync();
+
+        assertTrue(revocationList.isRevoked("remote-id"));
+        verify(repository).deleteExpired(any());
+    }
+
+    @Test
+    void sync_ShouldForgetExpiredEntries() {
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of(
+                new RevokedToken("expired-id", Instant.now().minusSeconds(JwtUtil.ALLOWED_CLOCK_SKEW_SECONDS + 1), Instant.now())));
+
+        revocationList.sync();
+
+        assertFalse(revocationList.isRevoked("expired-id"));
+        assertTrue(revocationList.isEmpty());
+    }
+
+    @Test
+    void filter_ShouldGrowBeyondExpectedEntries() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        List<RevokedToken> tokens = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tokens.add(new RevokedToken("id-" + i, expiresAt, Instant.now()));
+        }
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(tokens);
+
+        revocationList.sync();
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(revocationList.isRevoked("id-" + i));
+        }
+        assertFalse(revocationList.isRevoked("id-100"));
+    }
+}
@@ -3,8 +3,10 @@ package com.example.demo.service;
 import com.example.demo.dto.RegisterRequestDto;
 import com.example.demo.exception.RegistrationException;
 import com.example.demo.model.User;
+import com.example.demo.repository.RefreshTokenRepository;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.security.JwtUtil;
+import com.example.demo.security.TokenRevocationList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -13,6 +15,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -27,6 +30,8 @@ class AuthServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private JwtUtil jwtUtil;
+    @Mock private TokenRevocationList tokenRevocationList;
+    @Mock private RefreshTokenRepository refreshTokenRepository;
 
     @InjectMocks
     private AuthService authService;
@@ -149,4 +154,15 @@ class AuthServiceTest {
 
         assertEquals("jwtToken", token);
     }
-}
\ No newline at end of file
+
+    @Test
+    void logout_ShouldRevokePresentedTokenAndDeleteRefreshTokens() {
+        var authentication = new UsernamePasswordAuthenticationToken("john", "access-token",
+                AuthorityUtils.createAuthorityList("USER"));
+
+        authService.logout(authentication);
+
+        verify(tokenRevocationList).revoke("access-token");
+        verify(refreshTokenRepository).deleteByUsername("john");
+    }
+}
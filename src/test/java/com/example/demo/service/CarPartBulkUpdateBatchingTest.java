@@ -0,0 +1,72 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CarPartDeltaDto;
+import com.example.demo.model.CarPart;
+import com.example.demo.model.Supplier;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.SupplierRepository;
+import com.example.demo.sql.SqlStatementRecorder;
+import com.example.demo.sql.SqlStatementRecorderConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs bulk updates against the database with a JDBC batch size of 3. Updates only write the
+ * changed columns, so a price update cannot overwrite the stock written by a concurrent order.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:car-part-bulk-update",
+        "app.seeding.background=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=3"
+})
+@Import(SqlStatementRecorderConfig.class)
+class CarPartBulkUpdateBatchingTest {
+
+    @Autowired private CarPartService carPartService;
+    @Autowired private CarPartRepository carPartRepository;
+    @Autowired private SupplierRepository supplierRepository;
+
+    @Test
+    void bulkUpdateCarParts_ShouldWriteOnlyChangedColumns_InOneBatchPerColumnSetAndChunk() {
+        Supplier supplier = supplierRepository.save(Supplier.builder()
+                .name("Bulk update").email("bulk-update@example.com").build());
+        List<Long> ids = carPartRepository.saveAll(IntStream.rangeClosed(1, 6)
+                        .mapToObj(i -> CarPart.builder().name("Bulk part " + i).price(10.0).stock(10).supplier(supplier).build())
+                        .toList())
+                .stream().map(CarPart::getId).toList();
+        List<CarPartDeltaDto> deltas = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            deltas.add(i % 2 == 0
+                    ? CarPartDeltaDto.builder().id(ids.get(i)).price(20.0 + i).build()
+                    : CarPartDeltaDto.builder().id(ids.get(i)).stock(i).build());
+        }
+
+        SqlStatementRecorder.start();
+        var result = carPartService.bulkUpdateCarParts(deltas);
+        List<String> statements = SqlStatementRecorder.stop();
+
+        assertEquals(6, result.getUpdated());
+        List<String> updates = statements.stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("update car_part "))
+                .toList();
+        assertEquals(4, updates.size(), "a price and a stock batch per chunk of 3: " + statements);
+        assertEquals(2, updates.stream().filter(sql -> sql.contains("price") && !sql.contains("stock")).count(), updates.toString());
+        assertEquals(2, updates.stream().filter(sql -> sql.contains("stock") && !sql.contains("price")).count(), updates.toString());
+        CarPart priceChanged = carPartRepository.findById(ids.get(0)).orElseThrow();
+        assertEquals(20.0, priceChanged.getPrice());
+        assertEquals(10, priceChanged.getStock());
+        CarPart stockChanged = carPartRepository.findById(ids.get(1)).orElseThrow();
+        assertEquals(10.0, stockChanged.getPrice());
+        assertEquals(1, stockChanged.getStock());
+    }
+}
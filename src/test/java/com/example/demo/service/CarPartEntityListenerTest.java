@@ -0,0 +1,93 @@
+package com.example.demo.service;
+
+import com.example.demo.model.CarPart;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+class CarPartEntityListenerTest {
+
+    private CarPartSearchIndex searchIndex;
+    private LowStockIndex lowStockIndex;
+    private CarPartSearchService searchService;
+    private LowStockService lowStockService;
+    private CarPartEntityListener listener;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = mock(CarPartSearchIndex.class);
+        lowStockIndex = mock(LowStockIndex.class);
+        searchService = mock(CarPartSearchService.class);
+        lowStockService = mock(LowStockService.class);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("carPartSearchService", searchService);
+        beans.addBean("lowStockService", lowStockService);
+        listener = new CarPartEntityListener(searchIndex, lowStockIndex,
+                beans.getBeanProvider(CarPartSearchService.class), beans.getBeanProvider(LowStockService.class));
+        setField(listener, "maxPendingChanges", 2);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void afterCommit_ShouldApplyEachChange_WithinThreshold() {
+        listener.onSaved(part(1L, "Oil Filter"));
+        listener.onSaved(part(2L, "Air Filter"));
+        listener.onSaved(part(1L, "Oil Pump"));
+        verifyNoInteractions(searchIndex, lowStockIndex);
+
+        commit();
+
+        verify(searchIndex).put(1L, "Oil Pump");
+        verify(searchIndex).put(2L, "Air Filter");
+        verify(searchIndex, never()).put(1L, "Oil Filter");
+        verify(lowStockIndex, times(2)).update(anyLong(), eq(5), eq(1));
+        verifyNoInteractions(searchService, lowStockService);
+    }
+
+    @Test
+    void afterCommit_ShouldRebuildIndexes_OnceThresholdIsExceeded() {
+        for (long id = 1; id <= 5; id++) {
+            listener.onSaved(part(id, "Part " + id));
+        }
+        listener.onRemoved(part(6L, "Removed part"));
+
+        commit();
+
+        verify(searchService).rebuildIndex();
+        verify(lowStockService).rebuildIndex();
+        verify(searchIndex, never()).put(anyLong(), anyString());
+        verify(searchIndex, never()).remove(anyLong());
+        verifyNoInteractions(lowStockIndex);
+    }
+
+    @Test
+    void rollback_ShouldNeitherApplyChangesNorRebuild() {
+        for (long id = 1; id <= 5; id++) {
+            listener.onSaved(part(id, "Part " + id));
+        }
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(searchIndex, lowStockIndex, searchService, lowStockService);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static CarPart part(long id, String name) {
+        return CarPart.builder().id(id).name(name).price(9.99).stock(5).reorderThreshold(1).build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CarPartImportResultDto;
+import com.example.demo.exception.ImportValidationException;
+import com.example.demo.model.CarPart;
+import com.example.demo.model.Supplier;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.SupplierRepository;
+import com.example.demo.sql.SqlStatementRecorder;
+import com.example.demo.sql.SqlStatementRecorderConfig;
+import com.example.demo.utils.CarPartImportReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs imports against the database with a JDBC batch size of 3, so a handful of rows already
+ * spans several chunks.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:car-part-import",
+        "app.seeding.background=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=3"
+})
+@Import(SqlStatementRecorderConfig.class)
+class CarPartImportServiceTest {
+
+    @Autowired private CarPartImportService carPartImportService;
+    @Autowired private CarPartRepository carPartRepository;
+    @Autowired private SupplierRepository supplierRepository;
+
+    @Test
+    void importCarParts_ShouldUpdatePartsMatchedByNameAndInsertTheRest() throws Exception {
+        Long supplierId = supplierWithPart("upsert", "Brake Pad", 10.0, 1);
+        Long existingId = parts(supplierId).get(0).getId();
+
+        CarPartImportResultDto result = importCsv(supplierId, """
+                name,price,stock
+                brake pad,12.5,4
+                Spark Plug,3,10
+                """);
+
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getInserted());
+        List<CarPart> parts = parts(supplierId);
+        assertEquals(2, parts.size());
+        CarPart updated = parts.stream().filter(part -> part.getId().equals(existingId)).findFirst().orElseThrow();
+        assertEquals("brake pad", updated.getName());
+        assertEquals(12.5, updated.getPrice());
+        assertEquals(4, updated.getStock());
+    }
+
+    @Test
+    void importCarParts_ShouldWriteOneBatchPerChunk() throws Exception {
+        Long supplierId = supplierWithPart("chunks", "Wiper", 5.0, 1);
+        String rows = IntStream.rangeClosed(1, 7)
+                .mapToObj(i -> "Chunked part " + i + ",1.0," + i)
+                .collect(Collectors.joining("\n"));
+
+        SqlStatementRecorder.start();
+        CarPartImportResultDto result = importCsv(supplierId, "name,price,stock\n" + rows);
+        List<String> statements = SqlStatementRecorder.stop();
+
+        assertEquals(7, result.getInserted());
+        long insertBatches = statements.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("insert into car_part "))
+                .count();
+        assertEquals(3, insertBatches, "7 rows in chunks of 3: " + statements);
+        assertEquals(8, parts(supplierId).size());
+    }
+
+    @Test
+    void importCarParts_ShouldRollBackFlushedChunks_WhenALaterRowIsMalformed() throws Exception {
+        Long supplierId = supplierWithPart("rollback", "Brake Pad", 10.0, 1);
+        String validRows = IntStream.rangeClosed(1, 6)
+                .mapToObj(i -> "{\"name\":\"Rolled back part " + i + "\",\"price\":1.0,\"stock\":" + i + "}")
+                .collect(Collectors.joining(","));
+        String upload = "[{\"name\":\"Brake Pad\",\"price\":99.0,\"stock\":50}," + validRows
+                + ",{\"name\":\"Broken\",\"price\":]";
+
+        assertThrows(ImportValidationException.class, () -> carPartImportService.importCarParts(supplierId,
+                new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)), MediaType.APPLICATION_JSON));
+
+        List<CarPart> parts = parts(supplierId);
+        assertEquals(1, parts.size());
+        assertEquals("Brake Pad", parts.get(0).getName());
+        assertEquals(10.0, parts.get(0).getPrice());
+        assertEquals(1, parts.get(0).getStock());
+    }
+
+    private CarPartImportResultDto importCsv(Long supplierId, String csv) throws Exception {
+        return carPartImportService.importCarParts(supplierId,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), CarPartImportReader.TEXT_CSV);
+    }
+
+    private Long supplierWithPart(String name, String partName, double price, int stock) {
+        Supplier supplier = supplierRepository.save(Supplier.builder()
+                .name("Import " + name)
+                .email("import-" + name + "@example.com")
+                .build());
+        carPartRepository.save(CarPart.builder().name(partName).price(price).stock(stock).supplier(supplier).build());
+        return supplier.getId();
+    }
+
+    private List<CarPart> parts(Long supplierId) {
+        return carPartRepository.findBySupplierId(supplierId, Pageable.unpaged()).getContent();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.service;
+
+import com.example.demo.model.CarPart;
+import com.example.demo.repository.CarPartRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The in-memory part indexes only see committed writes: entity callbacks fire at flush time,
+ * so every test flushes inside a transaction and then rolls it back.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:index-rollback",
+        "app.seeding.background=false"
+})
+class CarPartIndexRollbackTest {
+
+    @Autowired private CarPartRepository carPartRepository;
+    @Autowired private LowStockIndex lowStockIndex;
+    @Autowired private CarPartSearchIndex searchIndex;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void rolledBackStockChange_ShouldLeaveLowStockIndexUnchanged() {
+        CarPart part = carPartRepository.save(part("Rollback filter", 2, 10));
+        assertTrue(lowStockIndex.findAtOrBelowThreshold(Integer.MAX_VALUE).contains(part.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            CarPart loaded = carPartRepository.findById(part.getId()).orElseThrow();
+            loaded.setStock(500);
+            carPartRepository.saveAndFlush(loaded);
+            status.setRollbackOnly();
+        });
+
+        assertTrue(lowStockIndex.findAtOrBelowThreshold(Integer.MAX_VALUE).contains(part.getId()));
+    }
+
+    @Test
+    void rolledBackInsert_ShouldNotReachLowStockIndex() {
+        Long partId = transactionTemplate.execute(status -> {
+            CarPart saved = carPartRepository.saveAndFlush(part("Rollback pump", 0, 5));
+            status.setRollbackOnly();
+            return saved.getId();
+        });
+
+        assertFalse(lowStockIndex.findAtOrBelowThreshold(Integer.MAX_VALUE).contains(partId));
+    }
+
+    @Test
+    void committedStockChange_ShouldReachLowStockIndex() {
+        CarPart part = carPartRepository.save(part("Committed gasket", 50, 10));
+        assertFalse(lowStockIndex.findAtOrBelowThreshold(Integer.MAX_VALUE).contains(part.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            CarPart loaded = carPartRepository.findById(part.getId()).orElseThrow();
+            loaded.setStock(1);
+            carPartRepository.saveAndFlush(loaded);
+        });
+
+        assertTrue(lowStockIndex.findAtOrBelowThreshold(Integer.MAX_VALUE).contains(part.getId()));
+    }
+
+    @Test
+    void rolledBackInsertAndRename_ShouldNotReachSearchIndex() {
+        CarPart part = carPartRepository.save(part("Quokka bracket", 10, 1));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            carPartRepository.saveAndFlush(part("Wombat hinge", 10, 1));
+            CarPart loaded = carPartRepository.findById(part.getId()).orElseThrow();
+            loaded.setName("Platypus bracket");
+            carPartRepository.saveAndFlush(loaded);
+            status.setRollbackOnly();
+        });
+
+        assertTrue(searchIndex.search("wombat", 10).isEmpty());
+        assertTrue(searchIndex.search("platypus", 10).isEmpty());
+        assertEquals(List.of(part.getId()), searchIndex.search("quokka", 10));
+    }
+
+    @Test
+    void rolledBackDelete_ShouldKeepPartSearchable() {
+        CarPart part = carPartRepository.save(part("Axolotl clamp", 10, 1));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            carPartRepository.deleteById(part.getId());
+            carPartRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(part.getId()), searchIndex.search("axolotl", 10));
+    }
+
+    @Test
+    void committedRename_ShouldReachSearchIndex() {
+        CarPart part = carPartRepository.save(part("Narwhal valve", 10, 1));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            CarPart loaded = carPartRepository.findById(part.getId()).orElseThrow();
+            loaded.setName("Pangolin valve");
+        });
+
+        assertTrue(searchIndex.search("narwhal", 10).isEmpty());
+        assertEquals(List.of(part.getId()), searchIndex.search("pangolin", 10));
+    }
+
+    private static CarPart part(String name, int stock, int reorderThreshold) {
+        return CarPart.builder().name(name).price(9.99).stock(stock).reorderThreshold(reorderThreshold).build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarPartSearchIndexTest {
+
+    private CarPartSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CarPartSearchIndex();
+        index.rebuild(Map.of(
+                1L, "Brake Pads",
+                2L, "Front Brake Disc",
+                3L, "Oil Filter",
+                4L, "Air Filter",
+                5L, "Handbrake Cable"
+        ));
+    }
+
+    @Test
+    void search_ShouldRankNamePrefixBeforeWordAndSubstringMatches() {
+        assertEquals(List.of(1L, 2L, 5L), index.search("brake", 10));
+    }
+
+    @Test
+    void search_ShouldMatchShortTokensAsWordPrefixes() {
+        assertEquals(List.of(1L), index.search("br pa", 10));
+        assertTrue(index.search("ak", 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndPunctuation() {
+        assertEquals(List.of(3L), index.search("  OIL-fil ", 10));
+    }
+
+    @Test
+    void search_ShouldRespectLimit() {
+        assertEquals(List.of(1L, 2L), index.search("brake", 2));
+    }
+
+    @Test
+    void search_ShouldReturnEmpty_WhenNothingMatches() {
+        assertTrue(index.search("turbo", 10).isEmpty());
+        assertTrue(index.search("", 10).isEmpty());
+    }
+
+    @Test
+    void put_ShouldReindexRenamedPart() {
+        index.put(3L, "Oil Pump");
+
+        assertTrue(index.search("filter oil", 10).isEmpty());
+        assertEquals(List.of(3L), index.search("pump", 10));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void remove_ShouldDropPartFromResults() {
+        index.remove(1L);
+
+        assertEquals(List.of(2L, 5L), index.search("brake", 10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void rebuild_ShouldReplayChangesMadeWhileTheSnapshotLoads() {
+        index.rebuild(() -> {
+            // Committed after the snapshot was read, applied before it is swapped in.
+            index.put(6L, "Turbo Hose");
+            index.put(3L, "Oil Pump");
+            index.remove(1L);
+            return Map.of(1L, "Brake Pads", 2L, "Front Brake Disc", 3L, "Oil Filter");
+        });
+
+        assertEquals(List.of(6L), index.search("turbo", 10));
+        assertEquals(List.of(3L), index.search("oil", 10));
+        assertEquals(List.of(2L), index.search("brake", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void rebuild_ShouldKeepServingAndStopRecording_WhenTheSnapshotFails() {
+        assertThrows(IllegalStateException.class, () -> index.rebuild(() -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+
+        assertEquals(List.of(1L, 2L, 5L), index.search("brake", 10));
+        index.rebuild(Map.of(7L, "Spark Plug"));
+        assertEquals(List.of(7L), index.search("spark", 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void compaction_ShouldKeepResultsConsistent() {
+        Map<Long, String> names = new HashMap<>();
+        for (long id = 1; id <= 2000; id++) {
+            names.put(id, "Part " + id);
+        }
+        index.rebuild(names);
+
+        for (long id = 1; id <= 1500; id++) {
+            index.put(id, "Renamed " + id);
+        }
+
+        assertEquals(List.of(42L), index.search("renamed 42 ", 1));
+        assertEquals(List.of(1999L), index.search("part 1999", 10));
+        assertEquals(2000, index.size());
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CarPartDeltaDto;
+import com.example.demo.exception.BadRequestException;
+import com.example.demo.model.CarPart;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.SupplierRepository;
+import com.example.demo.utils.CarPartMapperM;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarPartServiceTest {
+
+    @Mock private CarPartRepository carPartRepository;
+    @Mock private SupplierRepository supplierRepository;
+    @Mock private CarPartMapperM carPartMapper;
+    @Mock private EntityManager entityManager;
+
+    @InjectMocks
+    private CarPartService carPartService;
+
+    private CarPart brakePads;
+    private CarPart oilFilter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(carPartService, "batchSize", 2);
+        brakePads = CarPart.builder().id(1L).name("Brake Pads").price(49.9).stock(10).build();
+        oilFilter = CarPart.builder().id(2L).name("Oil Filter").price(9.5).stock(3).build();
+    }
+
+    @Test
+    void bulkUpdateCarParts_ShouldApplyOnlyPresentFields() {
+        when(carPartRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(brakePads, oilFilter));
+
+        var result = carPartService.bulkUpdateCarParts(List.of(
+                new CarPartDeltaDto(1L, 45.0, null),
+                new CarPartDeltaDto(2L, null, 7)
+        ));
+
+        assertEquals(2, result.getUpdated());
+        assertTrue(result.getMissingIds().isEmpty());
+        assertEquals(45.0, brakePads.getPrice());
+        assertEquals(10, brakePads.getStock());
+        assertEquals(9.5, oilFilter.getPrice());
+        assertEquals(7, oilFilter.getStock());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager).clear();
+    }
+
+    @Test
+    void bulkUpdateCarParts_ShouldReportMissingIdsAndFlushPerChunk() {
+        when(carPartRepository.findAllById(List.of(1L, 99L))).thenReturn(List.of(brakePads));
+        when(carPartRepository.findAllById(List.of(2L))).thenReturn(List.of(oilFilter));
+
+        var result = carPartService.bulkUpdateCarParts(List.of(
+                new CarPartDeltaDto(1L, null, 0),
+                new CarPartDeltaDto(99L, 1.0, null),
+                new CarPartDeltaDto(2L, 12.0, null)
+        ));
+
+        assertEquals(2, result.getUpdated());
+        assertEquals(List.of(99L), result.getMissingIds());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void bulkUpdateCarParts_ShouldReportRepeatedMissingIdOnce() {
+        when(carPartRepository.findAllById(List.of(99L, 1L))).thenReturn(List.of(brakePads));
+
+        var result = carPartService.bulkUpdateCarParts(List.of(
+                new CarPartDeltaDto(99L, 1.0, null),
+                new CarPartDeltaDto(99L, null, 2),
+                new CarPartDeltaDto(99L, 3.0, null),
+                new CarPartDeltaDto(1L, null, 4)
+        ));
+
+        assertEquals(1, result.getUpdated());
+        assertEquals(List.of(99L), result.getMissingIds());
+    }
+
+    @Test
+    void bulkUpdateCarParts_ShouldCountDistinctChangedParts() {
+        when(carPartRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(brakePads, oilFilter));
+
+        var result = carPartService.bulkUpdateCarParts(List.of(
+                new CarPartDeltaDto(1L, 49.9, 10),
+                new CarPartDeltaDto(2L, null, 7),
+                new CarPartDeltaDto(2L, 8.0, null),
+                new CarPartDeltaDto(2L, null, 7)
+        ));
+
+        assertEquals(1, result.getUpdated());
+        assertEquals(8.0, oilFilter.getPrice());
+        assertEquals(7, oilFilter.getStock());
+        verify(entityManager, times(1)).flush();
+    }
+
+    @Test
+    void bulkUpdateCarParts_ShouldRejectInvalidDeltasBeforeWriting() {
+        assertThrows(BadRequestException.class, () -> carPartService.bulkUpdateCarParts(List.of(
+                new CarPartDeltaDto(1L, 10.0, null),
+                new CarPartDeltaDto(2L, -1.0, null)
+        )));
+        assertThrows(BadRequestException.class, () -> carPartService.bulkUpdateCarParts(List.of(
+                new CarPartDeltaDto(null, 10.0, null)
+        )));
+
+        verify(carPartRepository, never()).findAllById(anyList());
+        verifyNoInteractions(entityManager);
+    }
+}
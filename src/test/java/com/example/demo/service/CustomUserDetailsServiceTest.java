@@ -9,7 +9,7 @@ import org.mockito.*;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
-import java.util.List;
+import java.util.EnumSet;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,7 +34,7 @@ class CustomUserDetailsServiceTest {
         User mockUser = User.builder()
                 .username(username)
                 .password("encodedPassword")
-                .roles(List.of(Role.USER))
+                .roles(EnumSet.of(Role.USER))
                 .build();
 
         when(userRepository.findByUsername(username)).thenReturn(Optional.of(mockUser));
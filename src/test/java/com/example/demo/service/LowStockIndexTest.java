@@ -0,0 +1,99 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LowStockIndexTest {
+
+    private LowStockIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LowStockIndex();
+        index.rebuild(Map.of(
+                1L, 5L,
+                2L, 0L,
+                3L, -3L,
+                4L, 10L,
+                5L, -1L
+        ));
+    }
+
+    @Test
+    void findAtOrBelowThreshold_ShouldReturnLargestShortfallFirst() {
+        assertEquals(List.of(3L, 5L, 2L), index.findAtOrBelowThreshold(10));
+        assertEquals(List.of(3L), index.findAtOrBelowThreshold(1));
+    }
+
+    @Test
+    void update_ShouldMovePartsAcrossTheThreshold() {
+        index.update(3L, 20, 2);
+        index.update(4L, 1, 4);
+        index.update(6L, 0, 1);
+
+        assertEquals(List.of(4L, 5L, 6L, 2L), index.findAtOrBelowThreshold(10));
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void update_ShouldStopTrackingPartWithoutThreshold() {
+        index.update(3L, 0, null);
+
+        assertEquals(List.of(5L, 2L), index.findAtOrBelowThreshold(10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void rebuild_ShouldReplayChangesMadeWhileTheSnapshotLoads() {
+        index.rebuild(() -> {
+            // Committed after the snapshot was read, applied before it is swapped in.
+            index.update(4L, 0, 5);
+            index.update(3L, 8, 2);
+            index.remove(5L);
+            return Map.of(3L, -3L, 4L, 10L, 5L, -1L);
+        });
+
+        assertEquals(List.of(4L), index.findAtOrBelowThreshold(10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void rebuild_ShouldKeepServing_WhenTheSnapshotFails() {
+        assertThrows(IllegalStateException.class, () -> index.rebuild(() -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        index.update(1L, 0, 1);
+
+        assertEquals(List.of(3L, 1L, 5L, 2L), index.findAtOrBelowThreshold(10));
+        index.rebuild(Map.of(7L, -2L));
+        assertEquals(List.of(7L), index.findAtOrBelowThreshold(10));
+    }
+
+    @Test
+    void remove_ShouldKeepHeapConsistent() {
+        Map<Long, Long> margins = new HashMap<>();
+        for (long id = 1; id <= 1000; id++) {
+            margins.put(id, (id * 7919) % 1000 - 10);
+        }
+        index.rebuild(margins);
+
+        for (long id = 1; id <= 1000; id += 2) {
+            index.remove(id);
+        }
+
+        List<Long> low = index.findAtOrBelowThreshold(1000);
+        List<Long> expected = margins.entrySet().stream()
+                .filter(entry -> entry.getKey() % 2 == 0 && entry.getValue() <= 0)
+                .sorted(Map.Entry.<Long, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+        assertEquals(expected, low);
+        assertEquals(500, index.size());
+    }
+}
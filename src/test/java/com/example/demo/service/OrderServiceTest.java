@@ -2,6 +2,7 @@ package com.example.demo.service;
 
 import com.example.demo.dto.OrderDto;
 import com.example.demo.dto.OrderItemDto;
+import com.example.demo.dto.UserOrderSummaryDto;
 import com.example.demo.model.*;
 import com.example.demo.repository.CarPartRepository;
 import com.example.demo.repository.OrderRepository;
@@ -9,6 +10,7 @@ import com.example.demo.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.lang.reflect.Field;
@@ -24,6 +26,8 @@ class OrderServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private CarPartRepository carPartRepository;
     @Mock private CarPartService carPartService;
+    @Mock private UserOrderSummaryService userOrderSummaryService;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private OrderService orderService;
@@ -85,6 +89,9 @@ class OrderServiceTest {
         assertEquals(100.0, response.getTotal(), 0.001);
         assertEquals(100L, response.getId());
         verify(orderRepository).save(any(Order.class));
+        verify(userOrderSummaryService).recordOrder(1L, 100.0, savedOrder.getDate());
+        verify(eventPublisher).publishEvent(new OrderPlacedEvent(100L, savedOrder.getDate(),
+                List.of(new OrderPlacedEvent.Line(10L, null, 2, 50.0))));
     }
 
     @Test
@@ -108,6 +115,28 @@ class OrderServiceTest {
                 orderService.placeOrder("ghost", new OrderDto(List.of())));
     }
 
+    @Test
+    void placeOrder_ShouldNotRecordSummary_WhenInsufficientStock() {
+        OrderDto orderDto = new OrderDto(List.of(
+                OrderItemDto.builder().carPartId(10L).quantity(99).build()
+        ));
+
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(testUser));
+        when(carPartService.getById(10L)).thenReturn(testPart);
+
+        assertThrows(IllegalArgumentException.class, () -> orderService.placeOrder("john", orderDto));
+        verifyNoInteractions(userOrderSummaryService, eventPublisher);
+    }
+
+    @Test
+    void getOrderSummary_ShouldDelegateWithUserId() {
+        var summary = UserOrderSummaryDto.builder().orderCount(3).totalSpent(120.0).build();
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(testUser));
+        when(userOrderSummaryService.getSummary(1L)).thenReturn(summary);
+
+        assertSame(summary, orderService.getOrderSummary("john"));
+    }
+
     @Test
     void getOrdersByUsername_ShouldReturnOrderResponses() {
         Order order = Order.builder()
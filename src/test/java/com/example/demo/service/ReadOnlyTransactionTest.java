@@ -0,0 +1,192 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CarPartDeltaDto;
+import com.example.demo.model.CarPart;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.SupplierRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManager;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Read-only service methods run on the replica pool without Hibernate snapshots.
+ * The replica is a second pool on the same in-memory database, so routing is observed through
+ * the pool holding an active connection while each statement runs. Service methods are called
+ * without an outer transaction, so their own @Transactional settings decide the routing.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:read-replica",
+        "app.seeding.background=false",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:read-replica"
+})
+class ReadOnlyTransactionTest {
+
+    private static final int PARTS = 500;
+    private static final int MEASURED_CALLS = 20;
+    /**
+     * Lower bound of a loaded-state snapshot: an array header plus a few field references.
+     */
+    private static final long MIN_SNAPSHOT_BYTES = 32;
+
+    @Autowired private CarPartService carPartService;
+    @Autowired private CarPartRepository carPartRepository;
+    @Autowired private SupplierRepository supplierRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private PoolRecorder poolRecorder;
+
+    @BeforeEach
+    void setUp() {
+        if (carPartRepository.count() < PARTS) {
+            var supplier = supplierRepository.findAll().get(0);
+            List<CarPart> parts = new ArrayList<>();
+            for (int i = 0; i < PARTS; i++) {
+                parts.add(CarPart.builder().name("Replica part " + i).price(1.0 + i).stock(i).supplier(supplier).build());
+            }
+            carPartRepository.saveAll(parts);
+        }
+    }
+
+    @Test
+    void readOnlyServiceMethod_ShouldUseReplicaPool() {
+        List<String> pools = poolRecorder.record(() -> carPartService.getAllCarParts());
+
+        assertFalse(pools.isEmpty());
+        assertEquals(Set.of(PoolRecorder.REPLICA), Set.copyOf(pools));
+    }
+
+    @Test
+    void readWriteServiceMethod_ShouldUsePrimaryPool() {
+        Long partId = carPartRepository.findAll().get(0).getId();
+
+        List<String> pools = poolRecorder.record(() -> carPartService.bulkUpdateCarParts(
+                List.of(CarPartDeltaDto.builder().id(partId).stock(7).build())));
+
+        assertFalse(pools.isEmpty());
+        assertEquals(Set.of(PoolRecorder.PRIMARY), Set.copyOf(pools));
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldNotKeepLoadedStateSnapshots() {
+        assertNull(loadedStateOfFirstPart(true));
+        assertNotNull(loadedStateOfFirstPart(false));
+    }
+
+    @Test
+    void readOnlyServiceMethod_ShouldSaveAtLeastOneSnapshotPerListedPart() {
+        long parts = carPartRepository.count();
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        long readOnly = allocatedBytesPerCall(() -> carPartService.getAllCarParts());
+        long joinedReadWrite = allocatedBytesPerCall(() -> readWrite.execute(status -> carPartService.getAllCarParts()));
+
+        long saved = joinedReadWrite - readOnly;
+        assertTrue(saved >= parts * MIN_SNAPSHOT_BYTES,
+                "listing " + parts + " parts saved " + saved + " bytes (read-only " + readOnly
+                        + ", read-write " + joinedReadWrite + ")");
+    }
+
+    private Object[] loadedStateOfFirstPart(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> {
+            CarPart part = carPartRepository.findAllWithSupplier().get(0);
+            return entityManager.unwrap(SessionImplementor.class)
+                    .getPersistenceContext().getEntry(part).getLoadedState();
+        });
+    }
+
+    /**
+     * Allocation on the calling thread of one catalogue listing, after warm-up.
+     */
+    private static long allocatedBytesPerCall(Supplier<?> call) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.get();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / MEASURED_CALLS;
+    }
+
+    @TestConfiguration
+    static class PoolRecorderConfig {
+
+        @Bean
+        PoolRecorder poolRecorder(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                  @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+            return new PoolRecorder(primaryDataSource, replicaDataSource);
+        }
+    }
+
+    /**
+     * Records, for every statement run on the recording thread, which pool lends the connection.
+     */
+    static final class PoolRecorder implements QueryExecutionListener {
+
+        static final String PRIMARY = "primary";
+        static final String REPLICA = "replica";
+
+        private final ThreadLocal<List<String>> pools = new ThreadLocal<>();
+        private final HikariDataSource primaryDataSource;
+        private final HikariDataSource replicaDataSource;
+
+        PoolRecorder(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+            this.primaryDataSource = primaryDataSource;
+            this.replicaDataSource = replicaDataSource;
+        }
+
+        List<String> record(Runnable call) {
+            pools.set(new ArrayList<>());
+            try {
+                call.run();
+                return pools.get();
+            } finally {
+                pools.remove();
+            }
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            List<String> recorded = pools.get();
+            if (recorded != null) {
+                int primary = activeConnections(primaryDataSource);
+                int replica = activeConnections(replicaDataSource);
+                recorded.add(primary > 0 && replica == 0 ? PRIMARY : replica > 0 && primary == 0 ? REPLICA : "both");
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        private static int activeConnections(HikariDataSource dataSource) {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+    }
+}
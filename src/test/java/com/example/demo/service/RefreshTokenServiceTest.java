@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.AuthResponseDto;
+import com.example.demo.exception.InvalidRefreshTokenException;
+import com.example.demo.model.RefreshToken;
+import com.example.demo.model.Role;
+import com.example.demo.model.User;
+import com.example.demo.repository.RefreshTokenRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+class RefreshTokenServiceTest {
+
+    @Mock private RefreshTokenRepository refreshTokenRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private JwtUtil jwtUtil;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        setField(refreshTokenService, "expirationSeconds", 3600L);
+        user = User.builder().id(1L).username("john").password("hash").roles(EnumSet.of(Role.USER)).build();
+    }
+
+    @Test
+    void issue_ShouldStoreOnlyTheHashOfANewFamily() {
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+
+        String token = refreshTokenService.issue("john");
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals(RefreshTokenService.hash(token), saved.getValue().getTokenHash());
+        assertNotEquals(token, saved.getValue().getTokenHash());
+        assertNotNull(saved.getValue().getFamily());
+        assertTrue(saved.getValue().getExpiresAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void refresh_ShouldRotateTokenWithinFamily() {
+        RefreshToken current = token("presented", null, Instant.now().plusSeconds(60));
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("presented"))).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.markRotated(eq(10L), any(Instant.class))).thenReturn(1);
+        when(jwtUtil.generateToken(any(UserDetails.class))).thenReturn("access");
+
+        AuthResponseDto response = refreshTokenService.refresh("presented");
+
+        assertEquals("access", response.getJwt());
+        assertNotEquals("presented", response.getRefreshToken());
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals("family-1", saved.getValue().getFamily());
+        assertEquals(RefreshTokenService.hash(response.getRefreshToken()), saved.getValue().getTokenHash());
+        verify(refreshTokenRepository, never()).deleteByFamily(any());
+    }
+
+    @Test
+    void refresh_ShouldRevokeFamily_WhenRotatedTokenIsReused() {
+        RefreshToken rotated = token("stolen", Instant.now().minusSeconds(5), Instant.now().plusSeconds(60));
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("stolen"))).thenReturn(Optional.of(rotated));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh("stolen"));
+
+        verify(refreshTokenRepository).deleteByFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any());
+        verifyNoInteractions(jwtUtil);
+    }
+
+    @Test
+    void refresh_ShouldRevokeFamily_WhenConcurrentRefreshRotatedItFirst() {
+        RefreshToken current = token("presented", null, Instant.now().plusSeconds(60));
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.markRotated(anyLong(), any(Instant.class))).thenReturn(0);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh("presented"));
+
+        verify(refreshTokenRepository).deleteByFamily("family-1");
+    }
+
+    @Test
+    void refresh_ShouldReject_WhenTokenExpiredOrUnknown() {
+        RefreshToken expired = token("old", null, Instant.now().minusSeconds(1));
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("old"))).thenReturn(Optional.of(expired));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh("old"));
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh("unknown"));
+        verify(refreshTokenRepository, never()).markRotated(anyLong(), any());
+    }
+
+    private RefreshToken token(String value, Instant rotatedAt, Instant expiresAt) {
+        return RefreshToken.builder()
+                .id(10L)
+                .tokenHash(RefreshTokenService.hash(value))
+                .family("family-1")
+                .user(user)
+                .expiresAt(expiresAt)
+                .rotatedAt(rotatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.service;
+
+import com.example.demo.service.SalesAnalytics.PartSales;
+import com.example.demo.service.SalesAnalytics.Sale;
+import com.example.demo.service.SalesAnalytics.SupplierRevenue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalesAnalyticsTest {
+
+    private final LocalDate today = LocalDate.of(2025, 5, 10);
+
+    private SalesAnalytics analytics;
+
+    @BeforeEach
+    void setUp() {
+        analytics = new SalesAnalytics();
+        analytics.rebuild(List.of(
+                new Sale(today, 1L, 10L, 2, 100.0),
+                new Sale(today.minusDays(1), 2L, 20L, 1, 150.0),
+                new Sale(today.minusDays(3), 1L, 10L, 1, 50.0),
+                new Sale(today.minusDays(10), 3L, 10L, 10, 1000.0)
+        ));
+    }
+
+    @Test
+    void topParts_ShouldRankByRevenueWithinWindow() {
+        assertEquals(List.of(new PartSales(1L, 3, 150.0), new PartSales(2L, 1, 150.0)),
+                analytics.topParts(today, 7, 10));
+        assertEquals(List.of(new PartSales(2L, 1, 150.0), new PartSales(1L, 2, 100.0)),
+                analytics.topParts(today, 2, 10));
+        assertEquals(List.of(new PartSales(3L, 10, 1000.0)), analytics.topParts(today, 30, 1));
+    }
+
+    @Test
+    void supplierRevenuePerDay_ShouldGroupByDayAndSupplier() {
+        analytics.record(new Sale(today, 2L, 20L, 1, 150.0));
+
+        assertEquals(List.of(
+                new SupplierRevenue(today.minusDays(3), 10L, 50.0),
+                new SupplierRevenue(today.minusDays(1), 20L, 150.0),
+                new SupplierRevenue(today, 10L, 100.0),
+                new SupplierRevenue(today, 20L, 150.0)
+        ), analytics.supplierRevenuePerDay(today, 7));
+    }
+
+    @Test
+    void record_ShouldReuseBucketOfExpiredDay() {
+        LocalDate later = today.plusDays(SalesAnalytics.MAX_DAYS);
+        analytics.record(new Sale(later, 5L, null, 1, 20.0));
+
+        assertEquals(List.of(new PartSales(5L, 1, 20.0)), analytics.topParts(later, SalesAnalytics.MAX_DAYS, 10));
+        assertTrue(analytics.supplierRevenuePerDay(later, 1).isEmpty());
+    }
+
+    @Test
+    void record_ShouldIgnoreSalesOlderThanRetainedDay() {
+        analytics.record(new Sale(today.minusDays(SalesAnalytics.MAX_DAYS), 9L, 10L, 1, 1.0));
+
+        assertTrue(analytics.topParts(today, SalesAnalytics.MAX_DAYS, 10).stream()
+                .noneMatch(part -> part.carPartId() == 9L));
+    }
+}
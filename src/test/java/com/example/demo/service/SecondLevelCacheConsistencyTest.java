@@ -0,0 +1,146 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.dto.SupplierDto;
+import com.example.demo.dto.UserDto;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.CarPart;
+import com.example.demo.model.Role;
+import com.example.demo.model.Supplier;
+import com.example.demo.model.User;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.SupplierRepository;
+import com.example.demo.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every test first warms the cache region it covers, then writes through the service and reads
+ * again, so a stale cache entry would be returned instead of the database row.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cache-consistency",
+        "app.seeding.background=false"
+})
+class SecondLevelCacheConsistencyTest {
+
+    @Autowired private CarPartService carPartService;
+    @Autowired private SupplierService supplierService;
+    @Autowired private UserService userService;
+    @Autowired private CarPartRepository carPartRepository;
+    @Autowired private SupplierRepository supplierRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void carPartRegion_ShouldServeUpdatedPart_AfterUpdateCarPart() {
+        Long partId = carPart("Cached filter").getId();
+        assertEquals(10.0, carPartService.getById(partId).getPrice());
+        assertCached(CarPart.class, partId);
+
+        carPartService.updateCarPart(partId, CarPartDto.builder()
+                .name("Cached filter").price(12.5).stock(3).reorderThreshold(1).build());
+
+        CarPart reloaded = carPartService.getById(partId);
+        assertEquals(12.5, reloaded.getPrice());
+        assertEquals(3, reloaded.getStock());
+    }
+
+    @Test
+    void carPartRegion_ShouldNotServePart_AfterDeleteCarPart() {
+        Long partId = carPart("Cached belt").getId();
+        carPartService.getById(partId);
+        assertCached(CarPart.class, partId);
+
+        carPartService.deleteCarPart(partId);
+
+        assertThrows(ResourceNotFoundException.class, () -> carPartService.getById(partId));
+    }
+
+    @Test
+    void supplierRegion_ShouldServeUpdatedSupplier_AfterUpdateSupplier() {
+        Long supplierId = supplier("update").getId();
+        assertEquals("Cached update", supplierService.getSupplierById(supplierId).getName());
+        assertCached(Supplier.class, supplierId);
+
+        supplierService.updateSupplier(supplierId, SupplierDto.builder()
+                .name("Renamed supplier").email("renamed-supplier@example.com").build());
+
+        SupplierDto reloaded = supplierService.getSupplierById(supplierId);
+        assertEquals("Renamed supplier", reloaded.getName());
+        assertEquals("renamed-supplier@example.com", reloaded.getEmail());
+    }
+
+    @Test
+    void supplierRegion_ShouldNotServeSupplier_AfterDeleteSupplier() {
+        Long supplierId = supplier("delete").getId();
+        supplierService.getSupplierById(supplierId);
+        assertCached(Supplier.class, supplierId);
+
+        supplierService.deleteSupplier(supplierId);
+
+        assertThrows(ResourceNotFoundException.class, () -> supplierService.getSupplierById(supplierId));
+    }
+
+    @Test
+    void userRegionAndQueryCache_ShouldServeUpdatedUser_AfterUpdateCurrentUser() {
+        User user = user("cached-update");
+        assertEquals("cached-update@example.com", userService.getUserByUsername("cached-update").getEmail());
+        assertCached(User.class, user.getId());
+
+        userService.updateCurrentUser("cached-update", UserDto.builder()
+                .firstName("Renamed").lastName("User").email("renamed-user@example.com").build());
+
+        UserDto reloaded = userService.getUserByUsername("cached-update");
+        assertEquals("Renamed", reloaded.getFirstName());
+        assertEquals("renamed-user@example.com", reloaded.getEmail());
+    }
+
+    @Test
+    void userRegionAndQueryCache_ShouldNotServeUser_AfterDeleteUserByUsername() {
+        User user = user("cached-delete");
+        userService.getUserByUsername("cached-delete");
+        assertCached(User.class, user.getId());
+
+        userService.deleteUserByUsername("cached-delete");
+
+        assertTrue(userRepository.findByUsername("cached-delete").isEmpty());
+        assertTrue(userRepository.findById(user.getId()).isEmpty());
+    }
+
+    private void assertCached(Class<?> entityClass, Long id) {
+        assertTrue(entityManagerFactory.getCache().contains(entityClass, id),
+                entityClass.getSimpleName() + " " + id + " should be cached before the write");
+    }
+
+    private CarPart carPart(String name) {
+        return carPartRepository.save(CarPart.builder()
+                .name(name).price(10.0).stock(5).reorderThreshold(1)
+                .supplier(supplier(name.toLowerCase().replace(' ', '-')))
+                .build());
+    }
+
+    private Supplier supplier(String name) {
+        return supplierRepository.save(Supplier.builder()
+                .name("Cached " + name)
+                .email("cached-" + name + "@example.com")
+                .build());
+    }
+
+    private User user(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("password")
+                .firstName("Cached")
+                .lastName("User")
+                .email(username + "@example.com")
+                .roles(Set.of(Role.USER))
+                .build());
+    }
+}
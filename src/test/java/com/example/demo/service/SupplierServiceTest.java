@@ -1,17 +1,25 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CarPartDto;
+import com.example.demo.dto.PageDto;
 import com.example.demo.dto.SupplierDto;
 import com.example.demo.exception.ResourceAlreadyExistsException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.model.Address;
+import com.example.demo.model.CarPart;
 import com.example.demo.model.Supplier;
+import com.example.demo.repository.CarPartRepository;
+import com.example.demo.repository.CarPartRepository.SupplierPartCount;
 import com.example.demo.repository.SupplierRepository;
+import com.example.demo.utils.CarPartMapperM;
 import com.example.demo.utils.SupplierMapperM;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +32,8 @@ class SupplierServiceTest {
 
     @Mock private SupplierRepository supplierRepository;
     @Mock private SupplierMapperM supplierMapper;
+    @Mock private CarPartRepository carPartRepository;
+    @Mock private CarPartMapperM carPartMapper;
 
     @InjectMocks
     private SupplierService supplierService;
@@ -56,16 +66,75 @@ class SupplierServiceTest {
                 .build();
     }
 
+    private SupplierPartCount partCount(Long supplierId, Long count) {
+        return new SupplierPartCount() {
+            @Override
+            public Long getSupplierId() {
+                return supplierId;
+            }
+
+            @Override
+            public Long getPartCount() {
+                return count;
+            }
+        };
+    }
+
     @Test
-    void getAllSuppliers_ShouldReturnListOfDtos() {
+    void getAllSuppliers_ShouldReturnSummariesWithPartCounts() {
+        SupplierDto summary = SupplierDto.builder().id(1L).name("ACME Supplies").build();
         when(supplierRepository.findAll()).thenReturn(List.of(supplier));
-        when(supplierMapper.modelToDto(supplier)).thenReturn(supplierDto);
+        when(carPartRepository.countPartsPerSupplier()).thenReturn(List.of(partCount(1L, 3L)));
+        when(supplierMapper.modelToSummaryDto(supplier)).thenReturn(summary);
 
-        List<SupplierDto> result = supplierService.getAllSuppliers();
+        List<SupplierDto> result = supplierService.getAllSuppliers(false);
 
         assertEquals(1, result.size());
         assertEquals("ACME Supplies", result.get(0).getName());
+        assertEquals(3L, result.get(0).getPartCount());
+        assertNull(result.get(0).getCarParts());
         verify(supplierRepository).findAll();
+        verify(carPartRepository, never()).findAllBySupplierIds(any());
+        verify(supplierMapper, never()).modelToDto(any());
+    }
+
+    @Test
+    void getAllSuppliers_WithParts_ShouldLoadPartsInSingleQuery() {
+        CarPart part = CarPart.builder().id(7L).name("Brake Pad").supplier(supplier).build();
+        CarPartDto partDto = CarPartDto.builder().id(7L).name("Brake Pad").build();
+        when(supplierRepository.findAll()).thenReturn(List.of(supplier));
+        when(carPartRepository.countPartsPerSupplier()).thenReturn(List.of(partCount(1L, 1L)));
+        when(carPartRepository.findAllBySupplierIds(List.of(1L))).thenReturn(List.of(part));
+        when(carPartMapper.modelToDtoWithoutSupplier(part)).thenReturn(partDto);
+        when(supplierMapper.modelToSummaryDto(supplier)).thenReturn(SupplierDto.builder().id(1L).build());
+
+        List<SupplierDto> result = supplierService.getAllSuppliers(true);
+
+        assertEquals(List.of(partDto), result.get(0).getCarParts());
+        verify(carPartRepository, times(1)).findAllBySupplierIds(List.of(1L));
+    }
+
+    @Test
+    void getSupplierParts_ShouldReturnPage_WhenSupplierExists() {
+        CarPart part = CarPart.builder().id(7L).name("Brake Pad").build();
+        CarPartDto partDto = CarPartDto.builder().id(7L).name("Brake Pad").build();
+        var pageable = PageRequest.of(0, 20);
+        when(supplierRepository.existsById(1L)).thenReturn(true);
+        when(carPartRepository.findBySupplierId(1L, pageable)).thenReturn(new PageImpl<>(List.of(part), pageable, 1));
+        when(carPartMapper.modelToDtoWithoutSupplier(part)).thenReturn(partDto);
+
+        PageDto<CarPartDto> result = supplierService.getSupplierParts(1L, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Brake Pad", result.getContent().get(0).getName());
+    }
+
+    @Test
+    void getSupplierParts_ShouldThrow_WhenSupplierNotFound() {
+        when(supplierRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () ->
+                supplierService.getSupplierParts(99L, PageRequest.of(0, 20)));
     }
 
     @Test
@@ -0,0 +1,126 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Order;
+import com.example.demo.model.Role;
+import com.example.demo.model.User;
+import com.example.demo.model.UserOrderSummary;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.UserOrderSummaryRepository;
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every test holds an order transaction open after its aggregate update, starts a competing
+ * writer, waits until the database reports it blocked and only then lets the order commit.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-summary-concurrency",
+        "app.seeding.background=false"
+})
+class UserOrderSummaryConcurrencyTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 5, 1);
+
+    @Autowired private UserOrderSummaryService summaryService;
+    @Autowired private UserOrderSummaryRepository summaryRepository;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentFirstOrders_ShouldBothBeCounted() throws Exception {
+        Long userId = user("summary-first-orders");
+
+        runWhileOrderIsOpen(userId, 10.0,
+                () -> transactionTemplate.executeWithoutResult(status -> placeOrder(userId, 5.0)));
+
+        UserOrderSummary summary = summaryRepository.findById(userId).orElseThrow();
+        assertEquals(2, summary.getOrderCount());
+        assertEquals(15.0, summary.getTotalSpent());
+    }
+
+    @Test
+    void rebuild_ShouldNotLoseOrderCommittedWhileItRuns() throws Exception {
+        Long userId = user("summary-rebuild");
+        transactionTemplate.executeWithoutResult(status -> placeOrder(userId, 20.0));
+
+        runWhileOrderIsOpen(userId, 7.5, summaryService::rebuild);
+
+        UserOrderSummary summary = summaryRepository.findById(userId).orElseThrow();
+        assertEquals(2, summary.getOrderCount());
+        assertEquals(27.5, summary.getTotalSpent());
+    }
+
+    /**
+     * Places an order in a transaction that stays open until competitor is blocked by it.
+     */
+    private void runWhileOrderIsOpen(Long userId, double total, Runnable competitor) throws Exception {
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> order = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    placeOrder(userId, total);
+                    recorded.countDown();
+                    await(commit);
+                }));
+        assertTrue(recorded.await(10, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> competing = CompletableFuture.runAsync(competitor);
+        awaitBlockedSession();
+        commit.countDown();
+
+        order.get(10, TimeUnit.SECONDS);
+        competing.get(10, TimeUnit.SECONDS);
+    }
+
+    private void placeOrder(Long userId, double total) {
+        Order order = orderRepository.save(Order.builder()
+                .user(userRepository.getReferenceById(userId))
+                .date(TODAY)
+                .total(total)
+                .build());
+        summaryService.recordOrder(userId, order.getTotal(), order.getDate());
+    }
+
+    private void awaitBlockedSession() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.sessions where blocker_id is not null", Integer.class) == 0) {
+            assertTrue(System.nanoTime() < deadline, "competing transaction never waited for the order");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Long user(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("password")
+                .firstName("Order")
+                .lastName("Summary")
+                .email(username + "@example.com")
+                .roles(Set.of(Role.USER))
+                .build()).getId();
+    }
+}
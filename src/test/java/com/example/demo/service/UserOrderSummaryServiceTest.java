@@ -0,0 +1,83 @@
+package com.example.demo.service;
+
+import com.example.demo.model.UserOrderSummary;
+import com.example.demo.repository.UserOrderSummaryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserOrderSummaryServiceTest {
+
+    @Mock private UserOrderSummaryRepository summaryRepository;
+    @Mock private EntityManager entityManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private UserOrderSummaryService summaryService;
+
+    private final LocalDate today = LocalDate.of(2025, 5, 1);
+
+    @BeforeEach
+    void setUp() {
+        summaryService = new UserOrderSummaryService(summaryRepository, entityManager, transactionManager, 1);
+    }
+
+    @Test
+    void recordOrder_ShouldOnlyIncrement_WhenSummaryExists() {
+        when(summaryRepository.addOrder(1L, 50.0, today)).thenReturn(1);
+
+        summaryService.recordOrder(1L, 50.0, today);
+
+        InOrder inOrder = inOrder(summaryRepository);
+        inOrder.verify(summaryRepository).lockUsers(List.of(1L));
+        inOrder.verify(summaryRepository).addOrder(1L, 50.0, today);
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void recordOrder_ShouldInsertSummary_ForFirstOrder() {
+        when(summaryRepository.addOrder(1L, 50.0, today)).thenReturn(0);
+
+        summaryService.recordOrder(1L, 50.0, today);
+
+        ArgumentCaptor<UserOrderSummary> captor = ArgumentCaptor.forClass(UserOrderSummary.class);
+        verify(entityManager).persist(captor.capture());
+        assertEquals(new UserOrderSummary(1L, 1, 50.0, today), captor.getValue());
+    }
+
+    @Test
+    void getSummary_ShouldReturnZeros_WhenUserHasNoOrders() {
+        when(summaryRepository.findById(7L)).thenReturn(Optional.empty());
+
+        var summary = summaryService.getSummary(7L);
+
+        assertEquals(0, summary.getOrderCount());
+        assertEquals(0.0, summary.getTotalSpent());
+        assertNull(summary.getLastOrderDate());
+    }
+
+    @Test
+    void getSummary_ShouldMapStoredAggregate() {
+        when(summaryRepository.findById(1L)).thenReturn(Optional.of(new UserOrderSummary(1L, 4, 210.5, today)));
+
+        var summary = summaryService.getSummary(1L);
+
+        assertEquals(4, summary.getOrderCount());
+        assertEquals(210.5, summary.getTotalSpent());
+        assertEquals(today, summary.getLastOrderDate());
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.PageDto;
 import com.example.demo.dto.RegisterRequestDto;
 import com.example.demo.dto.UserDto;
+import com.example.demo.exception.BadRequestException;
 import com.example.demo.exception.RegistrationException;
 import com.example.demo.exception.ResourceAlreadyExistsException;
 import com.example.demo.model.Role;
@@ -11,9 +13,14 @@ import com.example.demo.utils.UserMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,7 +49,7 @@ class UserServiceTest {
                 .email("john@example.com")
                 .firstName("John")
                 .lastName("Doe")
-                .roles(List.of(Role.USER))
+                .roles(EnumSet.of(Role.USER))
                 .password("encodedPass")
                 .build();
 
@@ -106,7 +113,7 @@ class UserServiceTest {
                 .firstName("Johnny")
                 .lastName("Doestar")
                 .password("unchangedPassword")
-                .roles(List.of(Role.USER))
+                .roles(EnumSet.of(Role.USER))
                 .build();
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
@@ -142,9 +149,50 @@ class UserServiceTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    void getUsers_ShouldQueryPageWithPrefixPatternsAndRoleSets() {
+        Pageable pageable = PageRequest.of(1, 10, Sort.by("lastName"));
+        when(userRepository.findUserPage(any(), any(), any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(userDto), pageable, 11));
+
+        PageDto<UserDto> result = userService.getUsers("Do", "john_", Role.ADMIN, pageable);
+
+        assertEquals(List.of(userDto), result.getContent());
+        assertEquals(1, result.getPage());
+        assertEquals(11, result.getTotalElements());
+        verify(userRepository).findUserPage("Do%", "john!_%",
+                List.of(EnumSet.of(Role.ADMIN), EnumSet.of(Role.USER, Role.ADMIN)), pageable);
+    }
+
+    @Test
+    void getUsers_ShouldMatchAllUsers_WithoutFilters() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(userRepository.findUserPage(any(), any(), any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(userDto), pageable, 1));
+
+        userService.getUsers(" ", null, null, pageable);
+
+        verify(userRepository).findUserPage(null, null, List.of(EnumSet.noneOf(Role.class),
+                EnumSet.of(Role.USER), EnumSet.of(Role.ADMIN), EnumSet.of(Role.USER, Role.ADMIN)), pageable);
+    }
+
+    @Test
+    void getUsers_ShouldRejectUnsupportedSortProperty() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("password"));
+
+        assertThrows(BadRequestException.class, () -> userService.getUsers(null, null, null, pageable));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void prefixPattern_ShouldEscapeWildcards() {
+        assertEquals("50!%!_off!!%", UserService.prefixPattern(" 50%_off! "));
+        assertNull(UserService.prefixPattern(null));
+    }
+
 
     @Test
-    void addUser_ShouldAddAndReturnAllUsers_WhenValid() {
+    void addUser_ShouldSaveAndReturnCreatedUser_WhenValid() {
         RegisterRequestDto newUser = RegisterRequestDto.builder()
                 .username("newuser")
                 .password("password123")
@@ -159,20 +207,20 @@ class UserServiceTest {
                 .email("new@example.com")
                 .firstName("New")
                 .lastName("User")
-                .roles(List.of(Role.USER))
+                .roles(EnumSet.of(Role.USER))
                 .build();
 
         when(userRepository.existsByUsername("newuser")).thenReturn(false);
         when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPass");
         when(userRepository.save(any(User.class))).thenReturn(newEntity);
-        when(userRepository.findAll()).thenReturn(List.of(newEntity));
         when(userMapper.modelToDto(newEntity)).thenReturn(userDto);
 
-        List<UserDto> result = userService.addUser(newUser);
+        UserDto result = userService.addUser(newUser);
 
-        assertEquals(1, result.size());
+        assertEquals(userDto, result);
         verify(userRepository).save(any(User.class));
+        verify(userRepository, never()).findAll();
     }
 
     @Test
@@ -0,0 +1,24 @@
+package com.example.demo.sql;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the annotated test when it executes more SQL statements than the budget.
+ * Only the test method body is measured, not @BeforeEach setup. Requires the data source to be
+ * wrapped by {@link SqlStatementRecorderConfig}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * Maximum number of statements the test may execute.
+     */
+    int value();
+}
@@ -0,0 +1,63 @@
+package com.example.demo.sql;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Enforces {@link QueryBudget} and prints the offending SQL when a budget is exceeded.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (budget(context) != null) {
+            SqlStatementRecorder.start();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryBudget budget = budget(context);
+        if (budget == null) {
+            return;
+        }
+        List<String> statements = SqlStatementRecorder.stop();
+        if (statements.size() > budget.value()) {
+            throw new AssertionFailedError(describe(budget.value(), statements));
+        }
+    }
+
+    /**
+     * Runs the action and fails when it executes more than maxStatements statements.
+     * For budgets that should only cover part of a test.
+     */
+    public static void assertStatementsAtMost(int maxStatements, Runnable action) {
+        SqlStatementRecorder.start();
+        List<String> statements;
+        try {
+            action.run();
+        } finally {
+            statements = SqlStatementRecorder.stop();
+        }
+        if (statements.size() > maxStatements) {
+            throw new AssertionFailedError(describe(maxStatements, statements));
+        }
+    }
+
+    private static QueryBudget budget(ExtensionContext context) {
+        return context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+    }
+
+    private static String describe(int budget, List<String> statements) {
+        return "Expected at most " + budget + " SQL statements but " + statements.size() + " were executed:\n"
+                + IntStream.range(0, statements.size())
+                .mapToObj(i -> "  " + (i + 1) + ". " + statements.get(i))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL executed on the current thread while recording is active.
+ *
+ * MockMvc requests and service calls run on the test thread, so statements from background
+ * work (index rebuilds, schedulers) are not attributed to the code under test. A JDBC batch
+ * counts as one statement, as it is one round trip.
+ */
+public final class SqlStatementRecorder implements QueryExecutionListener {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    /**
+     * @return the statements recorded since {@link #start()}
+     */
+    public static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements != null ? statements : List.of();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            for (QueryInfo query : queryInfoList) {
+                statements.add(query.getQuery());
+            }
+        }
+    }
+}
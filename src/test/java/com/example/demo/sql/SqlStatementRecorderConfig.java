@@ -0,0 +1,17 @@
+package com.example.demo.sql;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers {@link SqlStatementRecorder} as a query listener on the application's data source
+ * (see DataSourceProxyConfig).
+ */
+@TestConfiguration
+public class SqlStatementRecorderConfig {
+
+    @Bean
+    SqlStatementRecorder sqlStatementRecorder() {
+        return new SqlStatementRecorder();
+    }
+}
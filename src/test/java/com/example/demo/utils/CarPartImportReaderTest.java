@@ -0,0 +1,89 @@
+package com.example.demo.utils;
+
+import com.example.demo.exception.ImportValidationException;
+import com.example.demo.utils.CarPartImportReader.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarPartImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csv_ShouldReadRowsInHeaderOrder() throws IOException {
+        List<Row> rows = readAll(CarPartImportReader.TEXT_CSV,
+                "\uFEFFstock,Name,price\n5,\"Brake Pads, front\",49.9\n\n2,Oil Filter,9\n");
+
+        assertEquals(2, rows.size());
+        assertEquals(2, rows.get(0).number());
+        assertEquals("Brake Pads, front", rows.get(0).part().getName());
+        assertEquals(49.9, rows.get(0).part().getPrice());
+        assertEquals(5, rows.get(0).part().getStock());
+        assertEquals(4, rows.get(1).number());
+        assertEquals("Oil Filter", rows.get(1).part().getName());
+    }
+
+    @Test
+    void csv_ShouldReportInvalidRowsWithLineNumber() throws IOException {
+        List<Row> rows = readAll(CarPartImportReader.TEXT_CSV,
+                "name,price,stock\nBrake Pads,abc,5\nOil Filter,9\n");
+
+        assertEquals(new Row(2, null, "Invalid price: abc"), rows.get(0));
+        assertEquals(3, rows.get(1).number());
+        assertNull(rows.get(1).part());
+        assertNotNull(rows.get(1).error());
+    }
+
+    @Test
+    void csv_ShouldRejectMissingColumns() {
+        assertThrows(ImportValidationException.class,
+                () -> readAll(CarPartImportReader.TEXT_CSV, "name,price\nBrake Pads,1\n"));
+    }
+
+    @Test
+    void json_ShouldReadArrayElements() throws IOException {
+        List<Row> rows = readAll(MediaType.APPLICATION_JSON,
+                "[{\"name\":\"Brake Pads\",\"price\":49.9,\"stock\":5},{\"name\":\"Oil Filter\",\"stock\":\"many\"},7]");
+
+        assertEquals(3, rows.size());
+        assertEquals("Brake Pads", rows.get(0).part().getName());
+        assertEquals(5, rows.get(0).part().getStock());
+        assertEquals(new Row(2, null, "Invalid stock: \"many\""), rows.get(1));
+        assertEquals(new Row(3, null, "Expected a JSON object"), rows.get(2));
+    }
+
+    @Test
+    void json_ShouldRejectMalformedUpload() {
+        assertThrows(ImportValidationException.class,
+                () -> readAll(MediaType.APPLICATION_JSON, "[{\"name\":\"Brake Pads\"},{\"name\":"));
+        assertThrows(ImportValidationException.class,
+                () -> readAll(MediaType.APPLICATION_JSON, "{\"name\":\"Brake Pads\"}"));
+    }
+
+    @Test
+    void open_ShouldRejectUnsupportedType() {
+        assertThrows(ImportValidationException.class,
+                () -> readAll(MediaType.APPLICATION_XML, "<parts/>"));
+    }
+
+    private List<Row> readAll(MediaType type, String content) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        try (var reader = CarPartImportReader.open(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), type, objectMapper)) {
+            Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
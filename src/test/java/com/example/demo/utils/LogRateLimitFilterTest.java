@@ -0,0 +1,57 @@
+package com.example.demo.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogRateLimitFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final LogRateLimitFilter filter = new LogRateLimitFilter();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        filter.setContext(context);
+        filter.setMaxEventsPerSecond(3);
+        filter.start();
+        logger = context.getLogger("com.example.demo.service.CarPartService");
+        logger.setLevel(Level.DEBUG);
+    }
+
+    @Test
+    void decide_ShouldDenyInfoEventsOverLimit() {
+        int passed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (filter.decide(null, logger, Level.INFO, "Found {} car parts", null, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        // Three per second; a second boundary during the loop may let up to three more through.
+        assertTrue(passed >= 3 && passed <= 6, "passed " + passed);
+    }
+
+    @Test
+    void decide_ShouldAlwaysPassWarningsAndLevelChecks() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.WARN, "Stock low", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.DEBUG, null, null, null));
+        }
+    }
+
+    @Test
+    void decide_ShouldNotCountDisabledLevels() {
+        logger.setLevel(Level.INFO);
+        for (int i = 0; i < 10; i++) {
+            filter.decide(null, logger, Level.DEBUG, "Fetching all car parts", null, null);
+        }
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, "Found {} car parts", null, null));
+    }
+}
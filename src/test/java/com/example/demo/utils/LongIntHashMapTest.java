@@ -0,0 +1,60 @@
+package com.example.demo.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+    @Test
+    void get_ShouldReturnMissingValue_ForAbsentKeys() {
+        LongIntHashMap map = new LongIntHashMap(-1);
+        map.put(7L, 3);
+
+        assertEquals(3, map.get(7L));
+        assertEquals(-1, map.get(8L));
+        assertEquals(-1, map.remove(8L));
+        assertEquals(-1, map.get(Long.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> map.put(Long.MIN_VALUE, 1));
+    }
+
+    @Test
+    void putAndRemove_ShouldMatchHashMap_AcrossResizesAndCollisions() {
+        LongIntHashMap map = new LongIntHashMap(-1);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.getOrDefault(key, -1), map.remove(key));
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 2_000; key++) {
+            assertEquals(expected.getOrDefault(key, -1), map.get(key), "key " + key);
+        }
+    }
+
+    @Test
+    void clear_ShouldRemoveAllEntries() {
+        LongIntHashMap map = new LongIntHashMap(-1, 4);
+        for (long key = 0; key < 100; key++) {
+            map.put(key, (int) key);
+        }
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertEquals(-1, map.get(42L));
+    }
+}
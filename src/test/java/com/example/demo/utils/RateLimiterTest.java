@@ -0,0 +1,61 @@
+package com.example.demo.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenOneRequestPerInterval() {
+        RateLimiter limiter = new RateLimiter(3, 60, 100, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(SECOND, limiter.tryAcquire("a"));
+
+        clock.addAndGet(SECOND / 2);
+        assertEquals(SECOND / 2, limiter.tryAcquire("a"));
+
+        clock.addAndGet(SECOND / 2);
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepKeysIndependent() {
+        RateLimiter limiter = new RateLimiter(1, 60, 100, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(0, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    void tryAcquire_ShouldEvictIdleKeysAndShareOverflowBucketWhenFull() {
+        RateLimiter limiter = new RateLimiter(1, 60, 2, clock::get);
+
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        assertEquals(0, limiter.tryAcquire("c"));
+        assertTrue(limiter.tryAcquire("d") > 0, "Keys beyond the limit share one bucket");
+        assertEquals(2, limiter.size());
+
+        clock.addAndGet(2 * SECOND);
+        assertEquals(0, limiter.tryAcquire("e"));
+        assertEquals(1, limiter.size(), "Idle keys are evicted once the map is full");
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0, 60, 10));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(1, 0, 10));
+    }
+}
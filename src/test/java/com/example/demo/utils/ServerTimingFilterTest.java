@@ -0,0 +1,97 @@
+package com.example.demo.utils;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter(0);
+
+    @Test
+    void doFilter_ShouldReportPhasesAndStatementCount() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/carPart"), response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+                RequestTimings.record(RequestTimings.Phase.AUTH, 2_000_000);
+                RequestTimings.statementStarted();
+                RequestTimings.statementFinished();
+                RequestTimings.statementStarted();
+                RequestTimings.statementFinished();
+            }
+        }));
+
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("auth;dur=2.000, db;dur="), header);
+        assertTrue(header.contains(";desc=\"2 statements\""), header);
+        assertTrue(header.contains("total;dur="), header);
+    }
+
+    @Test
+    void doFilter_ShouldAddHeaderBeforeFlushedBodyCommitsResponse() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"), response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                RequestTimings.serializationStarted();
+                response.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+                response.getOutputStream().flush();
+            }
+        }));
+
+        assertTrue(response.isCommitted());
+        assertTrue(response.getHeader(ServerTimingFilter.HEADER).contains("serialization;dur="));
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void instrumentation_ShouldBeNoOpOutsideFilter() throws Exception {
+        assertEquals(0L, RequestTimings.start());
+        RequestTimings.record(RequestTimings.Phase.AUTH, 5_000_000);
+        RequestTimings.record(RequestTimings.Phase.MAPPING, 5_000_000);
+        RequestTimings.statementStarted();
+        RequestTimings.statementFinished();
+
+        String header = headerOf(() -> RequestTimings.record(RequestTimings.Phase.MAPPING, 1_000_000));
+
+        assertTrue(header.startsWith("db;dur=0.000;desc=\"0 statements\", mapping;dur=1.000, total;dur="), header);
+    }
+
+    @Test
+    void doFilter_ShouldNotCarryMetricsOverToNextRequest() throws Exception {
+        headerOf(() -> {
+            RequestTimings.record(RequestTimings.Phase.AUTH, 3_000_000);
+            RequestTimings.statementStarted();
+            RequestTimings.statementFinished();
+        });
+        RequestTimings.record(RequestTimings.Phase.AUTH, 3_000_000);
+
+        String header = headerOf(() -> RequestTimings.record(RequestTimings.Phase.MAPPING, 2_000_000));
+
+        assertTrue(header.startsWith("db;dur=0.000;desc=\"0 statements\", mapping;dur=2.000, total;dur="), header);
+    }
+
+    private String headerOf(Runnable handler) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/carPart"), response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+                handler.run();
+            }
+        }));
+        return response.getHeader(ServerTimingFilter.HEADER);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryListenerTest {
+
+    private static final String SQL = "select * from users where email=? and password=?";
+    private static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3ZOvLqVwS6zEmUQ6X4eUx8a";
+
+    private final SqlStatementStats stats = new SqlStatementStats();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger("com.example.demo.sql");
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    void afterQuery_ShouldLogStatementsOverThresholdWithoutParameterValues() throws Exception {
+        execute(new SlowQueryListener(stats, 0, 0, false));
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        String message = event.getFormattedMessage();
+        assertTrue(message.contains(SQL + " [1=String(17), 2=String(60), 3=Long, 4=null]"), message);
+        assertFalse(message.contains("alice@example.com"), message);
+        assertFalse(message.contains(PASSWORD_HASH), message);
+    }
+
+    @Test
+    void afterQuery_ShouldLogParameterValues_WhenEnabled() throws Exception {
+        execute(new SlowQueryListener(stats, 0, 0, true));
+
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.contains("1=alice@example.com, 2=" + PASSWORD_HASH + ", 3=42, 4=null"), message);
+    }
+
+    @Test
+    void afterQuery_ShouldNotLogFastStatements_WithoutSampling() throws Exception {
+        execute(new SlowQueryListener(stats, 60_000, 0, false));
+
+        assertTrue(appender.list.isEmpty());
+        assertEquals(1, stats.drain(10).executions());
+    }
+
+    @Test
+    void afterQuery_ShouldLogSampledFastStatementsAtInfo() throws Exception {
+        SlowQueryListener listener = new SlowQueryListener(stats, 60_000, 1, false);
+        execute(listener);
+        execute(listener);
+
+        assertEquals(2, appender.list.size());
+        assertTrue(appender.list.stream().allMatch(event -> event.getLevel() == Level.INFO
+                && event.getFormattedMessage().startsWith("Sampled SQL")));
+        assertEquals(2, stats.drain(10).executions());
+    }
+
+    private static void execute(SlowQueryListener listener) throws Exception {
+        QueryInfo query = new QueryInfo(SQL);
+        query.getParametersList().add(List.of(
+                parameter("setString", new Class<?>[]{int.class, String.class}, 1, "alice@example.com"),
+                parameter("setString", new Class<?>[]{int.class, String.class}, 2, PASSWORD_HASH),
+                parameter("setLong", new Class<?>[]{int.class, long.class}, 3, 42L),
+                parameter("setNull", new Class<?>[]{int.class, int.class}, 4, java.sql.Types.VARCHAR)));
+        ExecutionInfo execution = new ExecutionInfo();
+        listener.beforeQuery(execution, List.of(query));
+        listener.afterQuery(execution, List.of(query));
+    }
+
+    private static ParameterSetOperation parameter(String method, Class<?>[] types, Object... args) throws Exception {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod(method, types), args);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.utils;
+
+import com.example.demo.utils.SqlStatementStats.Snapshot;
+import com.example.demo.utils.SqlStatementStats.StatementStats;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementStatsTest {
+
+    private final SqlStatementStats stats = new SqlStatementStats();
+
+    @Test
+    void drain_ShouldOrderStatementsByTotalTime() {
+        stats.record("select a", 1_000);
+        stats.record("select a", 3_000);
+        stats.record("select b", 10_000);
+
+        Snapshot snapshot = stats.drain(10);
+
+        assertEquals(3, snapshot.executions());
+        assertEquals(2, snapshot.top().size());
+        assertEquals(new StatementStats("select b", 1, 10_000, 10_000), snapshot.top().get(0));
+        assertEquals(new StatementStats("select a", 2, 4_000, 3_000), snapshot.top().get(1));
+    }
+
+    @Test
+    void drain_ShouldRespectLimitAndStartNewWindow() {
+        stats.record("select a", 1_000);
+        stats.record("select b", 2_000);
+
+        assertEquals(1, stats.drain(1).top().size());
+        Snapshot next = stats.drain(10);
+        assertEquals(0, next.executions());
+        assertTrue(next.top().isEmpty());
+    }
+
+    @Test
+    void record_ShouldFoldStatementsBeyondCapIntoOther() {
+        for (int i = 0; i < SqlStatementStats.MAX_DISTINCT_STATEMENTS + 10; i++) {
+            stats.record("select " + i, 1);
+        }
+
+        Snapshot snapshot = stats.drain(Integer.MAX_VALUE);
+
+        assertEquals(SqlStatementStats.MAX_DISTINCT_STATEMENTS + 10, snapshot.executions());
+        assertEquals(SqlStatementStats.MAX_DISTINCT_STATEMENTS + 1, snapshot.top().size());
+        assertEquals(SqlStatementStats.OTHER_STATEMENTS, snapshot.top().get(0).sql());
+        assertEquals(10, snapshot.top().get(0).count());
+    }
+}